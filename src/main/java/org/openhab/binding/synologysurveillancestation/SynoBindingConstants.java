@@ -54,11 +54,26 @@ public class SynoBindingConstants {
     public static final String REFRESH_RATE_EVENTS = "refresh-rate-events";
     public static final String REFRESH_RATE_CAMERAEVENT = "refresh-rate-md-param";
     public static final String STREAM_ID = "snapshot-stream-id";
+    public static final String MAX_CONCURRENT_REQUESTS = "max-concurrent-requests";
+    public static final String MAX_CONNECTIONS = "max-connections";
+    public static final String KEEP_ALIVE_TIMEOUT = "keep-alive-timeout";
+    public static final String REQUEST_BUFFER_SIZE = "request-buffer-size";
+    public static final String RESPONSE_BUFFER_SIZE = "response-buffer-size";
+    public static final String SESSION_LIFETIME = "session-lifetime";
+    public static final String WEBHOOK_SECRET = "webhook-secret";
+    public static final String EVENT_STREAM = "event-stream";
+    public static final String EVENT_INTERVAL_MIN = "event-interval-min";
+    public static final String EVENT_INTERVAL_MAX = "event-interval-max";
+    public static final String JOURNAL_SIZE = "journal-size";
+    public static final String REPUBLISH_INTERVAL = "republish-interval";
+    public static final String COMMAND_QUEUE_SIZE = "command-queue-size";
+    public static final String COMMAND_OVERFLOW = "command-overflow";
 
     // List of all Bridge Channels
     public static final String CHANNEL_HOMEMODE = "homemode";
     public static final String CHANNEL_EVENT_TRIGGER = "eventtrigger";
     public static final String CHANNEL_SID = "sid";
+    public static final String CHANNEL_STATISTICS = "statistics";
 
     // List of all Channel ids
     public static final String CHANNEL_SNAPSHOT_URI_DYNAMIC = "common#snapshot-uri-dynamic";
@@ -98,6 +113,7 @@ public class SynoBindingConstants {
             .unmodifiableSet(Stream.of(CHANNEL_EVENT_MOTION, CHANNEL_EVENT_ALARM, CHANNEL_EVENT_MANUAL,
                     CHANNEL_EVENT_CONTINUOUS, CHANNEL_EVENT_EXTERNAL, CHANNEL_EVENT_ACTIONRULE)
                     .collect(Collectors.toSet()));
+    public static final String CHANNEL_EVENT_STREAM = "event#stream";
 
     // List of all MD parameters
     public static final String CHANNEL_MDPARAM_SOURCE = "md-param#md-param-source";
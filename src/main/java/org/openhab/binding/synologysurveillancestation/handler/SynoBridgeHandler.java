@@ -14,34 +14,62 @@ package org.openhab.binding.synologysurveillancestation.handler;
 
 import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.*;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.AbstractConnectionPool;
+import org.eclipse.jetty.client.ConnectionPool;
+import org.eclipse.jetty.client.DuplexConnectionPool;
 import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.HttpDestination;
+import org.eclipse.jetty.client.api.Destination;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.smarthome.config.core.ConfigConstants;
 import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
+import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandlerService;
 import org.eclipse.smarthome.core.types.Command;
-import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.UnDefType;
+import org.eclipse.smarthome.io.net.http.HttpClientFactory;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
+import org.openhab.binding.synologysurveillancestation.internal.SynoCommandQueue;
+import org.openhab.binding.synologysurveillancestation.internal.SynoStateCache;
+import org.openhab.binding.synologysurveillancestation.internal.action.SynoBridgeActions;
 import org.openhab.binding.synologysurveillancestation.internal.discovery.CameraDiscoveryService;
+import org.openhab.binding.synologysurveillancestation.internal.journal.SynoEventJournal;
 import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThread;
+import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThreadCameraPoll;
 import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThreadHomeMode;
+import org.openhab.binding.synologysurveillancestation.internal.thread.SynoPollScheduler;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoWebApiHandler;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiRequestLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,12 +83,33 @@ import org.slf4j.LoggerFactory;
 public class SynoBridgeHandler extends BaseBridgeHandler implements SynoHandler {
 
     private final Logger logger = LoggerFactory.getLogger(SynoBridgeHandler.class);
+    // Refresh rate of request statistics in seconds
+    private static final int STATISTICS_REFRESH_RATE = 60;
+    // Interval of session maintenance in seconds
+    private static final int SESSION_CHECK_INTERVAL = 60;
+
+    // HTTP client defaults
+    private static final int DEFAULT_MAX_CONNECTIONS = 8;
+    private static final int DEFAULT_KEEP_ALIVE_TIMEOUT = 30;
+    private static final int DEFAULT_REQUEST_BUFFER_SIZE = 4096;
+    private static final int DEFAULT_RESPONSE_BUFFER_SIZE = 16384;
+    // Maximum length of a HTTP client consumer name
+    private static final int MAX_CONSUMER_NAME = 20;
+    // Default size of the event journal in KiB
+    private static final int DEFAULT_JOURNAL_SIZE = 1024;
+
     private @Nullable CameraDiscoveryService discoveryService;
     private final SynoWebApiHandler apiHandler;
+    private final HttpClient httpClient;
     private final Map<String, SynoApiThread<SynoBridgeHandler>> threads = new HashMap<>();
+    private final SynoPollScheduler pollScheduler = new SynoPollScheduler(scheduler);
+    private final SynoStateCache stateCache = new SynoStateCache();
+    private final SynoCommandQueue commandQueue = new SynoCommandQueue(scheduler);
     private int refreshRateEvents = 3;
-    private final AtomicBoolean refreshInProgress = new AtomicBoolean(false);
     private SynoConfig config = new SynoConfig();
+    private @Nullable ScheduledFuture<?> statisticsJob;
+    private @Nullable ScheduledFuture<?> sessionJob;
+    private volatile @Nullable SynoEventJournal eventJournal;
 
     /**
      * Defines a runnable for a discovery
@@ -74,7 +123,7 @@ public class SynoBridgeHandler extends BaseBridgeHandler implements SynoHandler
         }
     };
 
-    public SynoBridgeHandler(Bridge bridge, HttpClient httpClient) {
+    public SynoBridgeHandler(Bridge bridge, HttpClientFactory httpClientFactory) {
         super(bridge);
         try {
             this.refreshRateEvents = Integer.parseInt(thing.getConfiguration().get(REFRESH_RATE_EVENTS).toString());
@@ -83,8 +132,18 @@ public class SynoBridgeHandler extends BaseBridgeHandler implements SynoHandler
         }
         config = getConfigAs(SynoConfig.class);
 
-        apiHandler = new SynoWebApiHandler(config, httpClient);
+        String consumerName = ("syno-" + bridge.getUID().getId()).replaceAll("[^\\w-]", "");
+        httpClient = httpClientFactory.createHttpClient(
+                consumerName.length() > MAX_CONSUMER_NAME ? consumerName.substring(0, MAX_CONSUMER_NAME)
+                        : consumerName);
+        startHttpClient();
+
+        apiHandler = new SynoWebApiHandler(config, httpClient, scheduler);
+        apiHandler.setSessionListener(sessionId -> scheduler.execute(() -> sessionRenewed(sessionId)));
+        apiHandler.setMaxConcurrentRequests(getConfigInt(MAX_CONCURRENT_REQUESTS,
+                SynoApiRequestLimiter.DEFAULT_MAX_REQUESTS));
         threads.put(SynoApiThread.THREAD_HOMEMODE, new SynoApiThreadHomeMode(this, refreshRateEvents));
+        threads.put(SynoApiThread.THREAD_CAMERAPOLL, new SynoApiThreadCameraPoll(this, refreshRateEvents));
         try {
             reconnect(false);
         } catch (WebApiException e) {
@@ -98,6 +157,7 @@ public class SynoBridgeHandler extends BaseBridgeHandler implements SynoHandler
 
     @Override
     public void handleCommand(@NonNull ChannelUID channelUID, @NonNull Command command) {
+        stateCache.invalidate(channelUID.getId());
         try {
             switch (channelUID.getId()) {
                 case CHANNEL_HOMEMODE:
@@ -105,7 +165,13 @@ public class SynoBridgeHandler extends BaseBridgeHandler implements SynoHandler
                         threads.get(SynoApiThread.THREAD_HOMEMODE).runOnce();
                     } else {
                         boolean state = command.toString().equals("ON");
-                        apiHandler.getApiHomeMode().setHomeMode(state);
+                        commandQueue.submit(() -> apiHandler.getApiHomeMode().setHomeModeAsync(state))
+                                .whenComplete((response, failure) -> {
+                                    if (failure != null) {
+                                        logger.error("handle command: {}::{} - {}", getThing().getLabel(),
+                                                channelUID, WebApiException.fromFailure(failure).getMessage());
+                                    }
+                                });
                     }
                     break;
                 case CHANNEL_EVENT_TRIGGER:
@@ -113,11 +179,14 @@ public class SynoBridgeHandler extends BaseBridgeHandler implements SynoHandler
                         updateState(channelUID, UnDefType.UNDEF);
                     } else {
                         int event = Integer.parseInt(command.toString());
-                        boolean ret = false;
                         if (event >= 1 && event <= 10) {
-                            ret = apiHandler.getApiExternalEvent().triggerEvent(event);
+                            commandQueue.submit(() -> apiHandler.getApiExternalEvent().triggerEventAsync(event))
+                                    .whenComplete((ret, failure) -> updateState(channelUID,
+                                            failure == null && Boolean.TRUE.equals(ret) ? new DecimalType(0)
+                                                    : UnDefType.UNDEF));
+                        } else {
+                            updateState(channelUID, UnDefType.UNDEF);
                         }
-                        updateState(channelUID, ret ? new DecimalType(0) : UnDefType.UNDEF);
                     }
                     break;
                 case CHANNEL_SID:
@@ -125,38 +194,85 @@ public class SynoBridgeHandler extends BaseBridgeHandler implements SynoHandler
                         updateState(channelUID, new StringType(apiHandler.getSessionID()));
                     }
                     break;
+                case CHANNEL_STATISTICS:
+                    if (command.toString().equals("REFRESH")) {
+                        updateState(channelUID, new StringType(getStatistics()));
+                    }
+                    break;
             }
         } catch (Exception e) {
             logger.error("handle command: {}::{}", getThing().getLabel(), getThing().getUID());
         }
     }
 
+    /**
+     * Checks the shared secret of a webhook push
+     *
+     * @param secret secret passed with the push
+     * @return if a secret is configured and matches
+     */
+    public boolean isWebhookSecret(String secret) {
+        Object configured = thing.getConfiguration().get(WEBHOOK_SECRET);
+        if (configured == null || configured.toString().isEmpty()) {
+            return false;
+        }
+        return MessageDigest.isEqual(configured.toString().getBytes(StandardCharsets.UTF_8),
+                secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Passes an event pushed by a Surveillance Station action rule to the camera
+     *
+     * @param cameraId camera id
+     * @param eventType event channel id
+     * @param on if the event started or ended
+     * @return false if the camera is unknown
+     */
+    public boolean pushEvent(String cameraId, String eventType, boolean on) {
+        for (Thing camera : getThing().getThings()) {
+            if (camera.getHandler() instanceof SynoCameraHandler) {
+                SynoCameraHandler cameraHandler = (SynoCameraHandler) camera.getHandler();
+                if (cameraId.equals(cameraHandler.getCameraId())) {
+                    return cameraHandler.getEventThread().pushEvent(eventType, on);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Polls the state of all cameras once (for manual refresh)
+     */
+    public void refreshCameraStatus() {
+        threads.get(SynoApiThread.THREAD_CAMERAPOLL).runOnce();
+    }
+
     public void setDiscovery(CameraDiscoveryService discoveryService) {
         this.discoveryService = discoveryService;
     }
 
+    /**
+     * Logs in again, concurrent calls share the same login. Channels depending on the session are updated by
+     * {@link #sessionRenewed(String)}.
+     */
     @Override
     public boolean reconnect(boolean forceLogout) throws WebApiException {
-        if (refreshInProgress.compareAndSet(false, true)) {
-            boolean ret = false;
-            try {
-                ret = apiHandler.connect(forceLogout);
-                try {
-                    Thread.sleep(1000);
-                } catch (InterruptedException e) {
-                }
-                refreshInProgress.set(false);
-            } catch (WebApiException e) {
-                refreshInProgress.set(false);
-                throw e;
-            }
-            if (ret) {
-                handleCommand(new ChannelUID(thing.getUID(), CHANNEL_SID), RefreshType.REFRESH);
+        return apiHandler.connect(forceLogout);
+    }
+
+    /**
+     * Updates the session channel and the static URIs of all cameras after a login
+     *
+     * @param sessionId the new session id
+     */
+    private void sessionRenewed(String sessionId) {
+        if (isLinked(CHANNEL_SID)) {
+            updateState(new ChannelUID(thing.getUID(), CHANNEL_SID), new StringType(sessionId));
+        }
+        for (Thing camera : getThing().getThings()) {
+            if (camera.getHandler() instanceof SynoCameraHandler) {
+                ((SynoCameraHandler) camera.getHandler()).refreshStatic();
             }
-            return ret;
-        } else {
-            logger.debug("Reconnect already in progress...");
-            return false;
         }
     }
 
@@ -167,6 +283,14 @@ public class SynoBridgeHandler extends BaseBridgeHandler implements SynoHandler
                 logger.debug("Initialize thing: {}::{}", getThing().getLabel(), getThing().getUID());
             }
 
+            startHttpClient();
+            apiHandler.setMaxConcurrentRequests(getConfigInt(MAX_CONCURRENT_REQUESTS,
+                    SynoApiRequestLimiter.DEFAULT_MAX_REQUESTS));
+            apiHandler.setSessionLifetime(getConfigInt(SESSION_LIFETIME, SynoWebApiHandler.DEFAULT_SESSION_LIFETIME));
+            stateCache.clear();
+            stateCache.setRepublishInterval(getRepublishInterval());
+            commandQueue.configure(getCommandQueueSize(), getCommandOverflow());
+
             if (!getConfigAs(SynoConfig.class).equals(config)) {
                 config = getConfigAs(SynoConfig.class);
                 apiHandler.setConfig(config);
@@ -178,12 +302,24 @@ public class SynoBridgeHandler extends BaseBridgeHandler implements SynoHandler
             // getThing().setProperty(SynoApiResponse.PROP_CAMERANUMBER,
             // infoResponse.getData().get(SynoApiResponse.PROP_CAMERANUMBER).getAsString());
 
+            openEventJournal();
             for (SynoApiThread<SynoBridgeHandler> thread : threads.values()) {
                 thread.start();
             }
 
             updateStatus(ThingStatus.ONLINE);
 
+            ScheduledFuture<?> job = statisticsJob;
+            if (job == null || job.isCancelled()) {
+                statisticsJob = scheduler.scheduleWithFixedDelay(this::refreshStatistics,
+                        STATISTICS_REFRESH_RATE, STATISTICS_REFRESH_RATE, TimeUnit.SECONDS);
+            }
+            job = sessionJob;
+            if (job == null || job.isCancelled()) {
+                sessionJob = scheduler.scheduleWithFixedDelay(this::maintainSession, SESSION_CHECK_INTERVAL,
+                        SESSION_CHECK_INTERVAL, TimeUnit.SECONDS);
+            }
+
             // Trigger discovery of cameras
             scheduler.submit(runnable);
 
@@ -203,9 +339,221 @@ public class SynoBridgeHandler extends BaseBridgeHandler implements SynoHandler
 
     @Override
     public void dispose() {
+        ScheduledFuture<?> job = statisticsJob;
+        if (job != null) {
+            job.cancel(false);
+            statisticsJob = null;
+        }
+        job = sessionJob;
+        if (job != null) {
+            job.cancel(false);
+            sessionJob = null;
+        }
+        // Only the jobs of the bridge are stopped, the cameras keep their jobs across a re-initialization of the
+        // bridge and stop them on their own dispose. The ticker stops once no job is left.
         for (SynoApiThread<SynoBridgeHandler> thread : threads.values()) {
             thread.stop();
         }
+        commandQueue.clear();
+        closeEventJournal();
+        try {
+            httpClient.stop();
+        } catch (Exception e) {
+            logger.debug("Error stopping HTTP client of {}: {}", getThing().getUID(), e.getMessage());
+        }
+    }
+
+    /**
+     * Configures and starts the HTTP client of this station if not running. The client is stopped on dispose, so
+     * configuration changes are applied with the next initialization.
+     */
+    private void startHttpClient() {
+        if (httpClient.isRunning()) {
+            return;
+        }
+        httpClient.setMaxConnectionsPerDestination(getConfigInt(MAX_CONNECTIONS, DEFAULT_MAX_CONNECTIONS));
+        httpClient.setIdleTimeout(
+                TimeUnit.SECONDS.toMillis(getConfigInt(KEEP_ALIVE_TIMEOUT, DEFAULT_KEEP_ALIVE_TIMEOUT)));
+        httpClient.setRequestBufferSize(getConfigInt(REQUEST_BUFFER_SIZE, DEFAULT_REQUEST_BUFFER_SIZE));
+        httpClient.setResponseBufferSize(getConfigInt(RESPONSE_BUFFER_SIZE, DEFAULT_RESPONSE_BUFFER_SIZE));
+        try {
+            httpClient.start();
+        } catch (Exception e) {
+            logger.error("Error starting HTTP client of {}: {}", getThing().getUID(), e.getMessage());
+        }
+    }
+
+    /**
+     * Opens the event journal of this station in the user data folder if enabled and not open yet
+     */
+    private void openEventJournal() {
+        int size = getConfigInt(JOURNAL_SIZE, DEFAULT_JOURNAL_SIZE);
+        if (size <= 0 || eventJournal != null) {
+            return;
+        }
+        Path file = Paths.get(ConfigConstants.getUserDataFolder(), BINDING_ID,
+                getThing().getUID().getId() + ".journal");
+        try {
+            eventJournal = new SynoEventJournal(file, size * 1024);
+        } catch (IOException e) {
+            logger.warn("Event journal {} could not be opened: {}", file, e.getMessage());
+        }
+    }
+
+    private void closeEventJournal() {
+        SynoEventJournal journal = eventJournal;
+        eventJournal = null;
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                logger.debug("Error closing event journal of {}: {}", getThing().getUID(), e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public SynoPollScheduler getPollScheduler() {
+        return pollScheduler;
+    }
+
+    /**
+     * @return the event journal of this station, null if disabled
+     */
+    public @Nullable SynoEventJournal getEventJournal() {
+        return eventJournal;
+    }
+
+    @Override
+    public Collection<Class<? extends ThingHandlerService>> getServices() {
+        return Collections.singleton(SynoBridgeActions.class);
+    }
+
+    /**
+     * Returns an integer configuration parameter or the default value if not set
+     *
+     * @param key configuration key
+     * @param defaultValue default value
+     * @return configured or default value
+     */
+    private int getConfigInt(String key, int defaultValue) {
+        Object value = thing.getConfiguration().get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return new BigDecimal(value.toString()).intValue();
+        } catch (NumberFormatException ex) {
+            logger.error("Error parsing Bridge configuration {}: {}", key, value);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * @return request statistics of this station
+     */
+    public String getStatistics() {
+        return "Requests: " + apiHandler.getRequestLimiter() + "; Connections: " + getConnectionStatistics()
+                + "; Scheduler: " + pollScheduler + "; States: " + getStateStatistics() + "; Commands: "
+                + getCommandStatistics();
+    }
+
+    /**
+     * @return command queue statistics of this station and all its cameras
+     */
+    private String getCommandStatistics() {
+        List<SynoCommandQueue> queues = new ArrayList<>();
+        queues.add(commandQueue);
+        for (Thing camera : getThing().getThings()) {
+            if (camera.getHandler() instanceof SynoCameraHandler) {
+                queues.add(((SynoCameraHandler) camera.getHandler()).getCommandQueue());
+            }
+        }
+        long executed = 0;
+        long dropped = 0;
+        long wait = 0;
+        long maxWait = 0;
+        int queued = 0;
+        for (SynoCommandQueue queue : queues) {
+            executed += queue.getExecutedCount();
+            dropped += queue.getDroppedCount();
+            wait += queue.getWaitMillis();
+            maxWait = Math.max(maxWait, queue.getMaxWaitMillis());
+            queued += queue.getQueuedCount();
+        }
+        return "executed=" + executed + ", dropped=" + dropped + ", average wait="
+                + (executed == 0 ? 0 : wait / executed) + " ms, max wait=" + maxWait + " ms, queued=" + queued;
+    }
+
+    /**
+     * @return published and suppressed states of this station and all its cameras
+     */
+    private String getStateStatistics() {
+        long published = stateCache.getPublishedCount();
+        long suppressed = stateCache.getSuppressedCount();
+        for (Thing camera : getThing().getThings()) {
+            if (camera.getHandler() instanceof SynoCameraHandler) {
+                SynoStateCache cameraCache = ((SynoCameraHandler) camera.getHandler()).getStateCache();
+                published += cameraCache.getPublishedCount();
+                suppressed += cameraCache.getSuppressedCount();
+            }
+        }
+        return "published=" + published + ", suppressed=" + suppressed;
+    }
+
+    /**
+     * @return connection pool and thread pool utilisation of the HTTP client
+     */
+    private String getConnectionStatistics() {
+        int connections = 0;
+        int active = 0;
+        int idle = 0;
+        int queued = 0;
+        for (Destination destination : httpClient.getDestinations()) {
+            if (destination instanceof HttpDestination) {
+                HttpDestination httpDestination = (HttpDestination) destination;
+                queued += httpDestination.getQueuedRequestCount();
+                ConnectionPool pool = httpDestination.getConnectionPool();
+                if (pool instanceof AbstractConnectionPool) {
+                    connections += ((AbstractConnectionPool) pool).getConnectionCount();
+                }
+                if (pool instanceof DuplexConnectionPool) {
+                    active += ((DuplexConnectionPool) pool).getActiveConnectionCount();
+                    idle += ((DuplexConnectionPool) pool).getIdleConnectionCount();
+                }
+            }
+        }
+        String statistics = "open=" + connections + "/" + httpClient.getMaxConnectionsPerDestination() + ", active="
+                + active + ", idle=" + idle + ", queued=" + queued;
+        Executor executor = httpClient.getExecutor();
+        if (executor instanceof QueuedThreadPool) {
+            QueuedThreadPool threadPool = (QueuedThreadPool) executor;
+            statistics += ", threads=" + threadPool.getBusyThreads() + "/" + threadPool.getMaxThreads();
+        }
+        return statistics;
+    }
+
+    /**
+     * Renews or keeps alive the session before it expires
+     */
+    private void maintainSession() {
+        apiHandler.maintainSession().whenComplete((result, failure) -> {
+            if (failure != null) {
+                logger.debug("Session maintenance of {} failed: {}", getThing().getUID(),
+                        WebApiException.fromFailure(failure).getMessage());
+            }
+        });
+    }
+
+    /**
+     * Logs the statistics and updates the statistics channel if linked
+     */
+    private void refreshStatistics() {
+        String statistics = getStatistics();
+        logger.debug("Statistics {}: {}", getThing().getUID(), statistics);
+        if (isLinked(CHANNEL_STATISTICS)) {
+            updateState(new ChannelUID(thing.getUID(), CHANNEL_STATISTICS), new StringType(statistics));
+        }
     }
 
     @Override
@@ -229,6 +577,7 @@ public class SynoBridgeHandler extends BaseBridgeHandler implements SynoHandler
         if (newRefreshRateEvents != this.refreshRateEvents) {
             this.refreshRateEvents = newRefreshRateEvents;
             threads.get(SynoApiThread.THREAD_HOMEMODE).setRefreshRate(this.refreshRateEvents);
+            threads.get(SynoApiThread.THREAD_CAMERAPOLL).setRefreshRate(this.refreshRateEvents);
         }
     }
 
@@ -247,9 +596,36 @@ public class SynoBridgeHandler extends BaseBridgeHandler implements SynoHandler
         super.updateStatus(status);
     }
 
+    /**
+     * Publishes the state if it differs from the last published one
+     */
     @Override
     public void updateState(ChannelUID channelUID, State state) {
-        super.updateState(channelUID, state);
+        if (stateCache.update(channelUID.getId(), state)) {
+            super.updateState(channelUID, state);
+        }
+    }
+
+    /**
+     * @return interval in seconds after which unchanged states are published again, 0 for changes only
+     */
+    public int getRepublishInterval() {
+        return getConfigInt(REPUBLISH_INTERVAL, 0);
+    }
+
+    /**
+     * @return maximum number of commands waiting per camera
+     */
+    public int getCommandQueueSize() {
+        return getConfigInt(COMMAND_QUEUE_SIZE, SynoCommandQueue.DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * @return behaviour when a command queue is full
+     */
+    public SynoCommandQueue.Overflow getCommandOverflow() {
+        Object value = thing.getConfiguration().get(COMMAND_OVERFLOW);
+        return SynoCommandQueue.Overflow.parse(value == null ? null : value.toString());
     }
 
     /**
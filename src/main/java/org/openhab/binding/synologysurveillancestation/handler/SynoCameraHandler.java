@@ -14,12 +14,16 @@ package org.openhab.binding.synologysurveillancestation.handler;
 
 import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.*;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -27,28 +31,37 @@ import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.thing.Bridge;
+import org.eclipse.smarthome.core.thing.Channel;
 import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.ThingStatusInfo;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.thing.binding.builder.ThingBuilder;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.StateOption;
+import org.openhab.binding.synologysurveillancestation.internal.SynoCommandQueue;
+import org.openhab.binding.synologysurveillancestation.internal.SynoOptionCache;
+import org.openhab.binding.synologysurveillancestation.internal.SynoStateCache;
 import org.openhab.binding.synologysurveillancestation.internal.discovery.SynoDynamicStateDescriptionProvider;
+import org.openhab.binding.synologysurveillancestation.internal.journal.SynoEventJournal;
 import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThread;
 import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThreadCamera;
 import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThreadCameraEvent;
 import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThreadEvent;
 import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThreadLiveUri;
 import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThreadSnapshot;
+import org.openhab.binding.synologysurveillancestation.internal.thread.SynoPollPlanner;
+import org.openhab.binding.synologysurveillancestation.internal.thread.SynoPollScheduler;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoWebApiHandler;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.CameraEventResponse;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.CameraResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.CameraResponseObject;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SimpleResponse;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SynoApiResponse;
 import org.slf4j.Logger;
@@ -68,13 +81,27 @@ import com.google.gson.JsonObject;
 @NonNullByDefault
 public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
 
+    // API parameter names of the motion detection channels
+    private static final Map<String, String> MDPARAM_NAMES = new HashMap<>();
+    static {
+        MDPARAM_NAMES.put(CHANNEL_MDPARAM_SENSITIVITY, "sensitivity");
+        MDPARAM_NAMES.put(CHANNEL_MDPARAM_THRESHOLD, "threshold");
+        MDPARAM_NAMES.put(CHANNEL_MDPARAM_OBJECTSIZE, "objectSize");
+        MDPARAM_NAMES.put(CHANNEL_MDPARAM_PERCENTAGE, "percentage");
+        MDPARAM_NAMES.put(CHANNEL_MDPARAM_SHORTLIVE, "shortLiveSecond");
+    }
+
     private final Logger logger = LoggerFactory.getLogger(SynoCameraHandler.class);
     private String cameraId = "";
     private boolean ptz = false;
     private final Map<String, SynoApiThread<SynoCameraHandler>> threads = new HashMap<>();
+    private final SynoPollPlanner planner = new SynoPollPlanner();
+    private final SynoStateCache stateCache = new SynoStateCache();
+    private final SynoCommandQueue commandQueue = new SynoCommandQueue(scheduler);
+    private volatile boolean pollOffline = false;
     private @Nullable SynoWebApiHandler apiHandler;
-    private List<StateOption> presets = new ArrayList<>();
-    private List<StateOption> patrols = new ArrayList<>();
+    private final SynoOptionCache presets = new SynoOptionCache();
+    private final SynoOptionCache patrols = new SynoOptionCache();
 
     private @Nullable SynoDynamicStateDescriptionProvider stateDescriptionProvider;
 
@@ -107,10 +134,12 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
         threads.put(SynoApiThread.THREAD_CAMERA, new SynoApiThreadCamera(this, refreshRateEvents));
         threads.put(SynoApiThread.THREAD_LIVEURI, new SynoApiThreadLiveUri(this, refreshRateEvents));
         threads.put(SynoApiThread.THREAD_CAMERAEVENT, new SynoApiThreadCameraEvent(this, refreshRateCameraEvent));
+        setEventIntervals();
     }
 
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
+        stateCache.invalidate(channelUID.getId());
         if (apiHandler == null) {
             return;
         }
@@ -128,70 +157,47 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
                     case CHANNEL_EVENT_ACTIONRULE:
                         updateState(channelUID, OnOffType.OFF);
                         break;
+                    case CHANNEL_ENABLE:
+                    case CHANNEL_RECORD:
+                        Bridge bridge = getBridge();
+                        if (bridge != null && bridge.getHandler() instanceof SynoBridgeHandler) {
+                            ((SynoBridgeHandler) bridge.getHandler()).refreshCameraStatus();
+                        }
+                        break;
                     case CHANNEL_SNAPSHOT_URI_STATIC:
                         int streamId = Integer.parseInt(this.getThing().getConfiguration().get(STREAM_ID).toString());
                         String uri = apiHandler.getApiCamera().getSnapshotUri(cameraId, streamId);
                         updateState(channelUID, new StringType(uri));
                         break;
                     case CHANNEL_LIVE_URI_RTSP:
-                        String rtsp = apiHandler.getApiLiveUri().getLiveUriResponse(cameraId).getRtsp();
-                        updateState(channelUID, new StringType(rtsp));
+                        handleFailure(channelUID, apiHandler.getApiLiveUri().getCachedLiveUriResponseAsync(cameraId)
+                                .thenAccept(response -> updateState(channelUID,
+                                        new StringType(response.getRtsp(cameraId)))));
                         break;
                     case CHANNEL_LIVE_URI_MJPEG_HTTP:
-                        String mjpeg = apiHandler.getApiLiveUri().getLiveUriResponse(cameraId).getMjpegHttp();
-                        updateState(channelUID, new StringType(mjpeg));
-                        break;
-                    case CHANNEL_MDPARAM_SOURCE:
-                    case CHANNEL_MDPARAM_SENSITIVITY:
-                    case CHANNEL_MDPARAM_THRESHOLD:
-                    case CHANNEL_MDPARAM_OBJECTSIZE:
-                    case CHANNEL_MDPARAM_PERCENTAGE:
-                    case CHANNEL_MDPARAM_SHORTLIVE:
-                        threads.get(SynoApiThread.THREAD_CAMERAEVENT).runOnce();
-                        break;
-                }
-            } else {
-                switch (channelUID.getId()) {
-                    case CHANNEL_ENABLE:
-                        apiHandler.getApiCamera().toggleCamera(cameraId, command.toString().equals("ON"));
-                    case CHANNEL_RECORD:
-                        apiHandler.getApiExternalRecording().toggleRecording(cameraId, command.toString().equals("ON"));
-                    case CHANNEL_ZOOM:
-                    case CHANNEL_MOVE:
-                        apiHandler.getApiPTZ().execute(cameraId, channelUID.getId(), command.toString());
+                        handleFailure(channelUID, apiHandler.getApiLiveUri().getCachedLiveUriResponseAsync(cameraId)
+                                .thenAccept(response -> updateState(channelUID,
+                                        new StringType(response.getMjpegHttp(cameraId)))));
                         break;
                     case CHANNEL_MOVEPRESET:
-                        String preset = checkOption(presets, command.toString());
-                        if (preset != "") {
-                            apiHandler.getApiPTZ().goPreset(cameraId, preset);
-                        }
+                        presets.invalidate();
+                        handleFailure(channelUID, updatePresets());
                         break;
                     case CHANNEL_RUNPATROL:
-                        String patrol = checkOption(patrols, command.toString());
-                        if (patrol != "") {
-                            apiHandler.getApiPTZ().runPatrol(cameraId, patrol);
-                        }
+                        patrols.invalidate();
+                        handleFailure(channelUID, updatePatrols());
                         break;
                     case CHANNEL_MDPARAM_SOURCE:
-                        apiHandler.getApiCameraEvent().setSource(cameraId, command.toString());
-                        break;
                     case CHANNEL_MDPARAM_SENSITIVITY:
-                        apiHandler.getApiCameraEvent().setSensitivity(cameraId, Integer.parseInt(command.toString()));
-                        break;
                     case CHANNEL_MDPARAM_THRESHOLD:
-                        apiHandler.getApiCameraEvent().setThreshold(cameraId, Integer.parseInt(command.toString()));
-                        break;
                     case CHANNEL_MDPARAM_OBJECTSIZE:
-                        apiHandler.getApiCameraEvent().setObjectSize(cameraId, Integer.parseInt(command.toString()));
-                        break;
                     case CHANNEL_MDPARAM_PERCENTAGE:
-                        apiHandler.getApiCameraEvent().setPercentage(cameraId, Integer.parseInt(command.toString()));
-                        break;
                     case CHANNEL_MDPARAM_SHORTLIVE:
-                        apiHandler.getApiCameraEvent().setShortLiveSecond(cameraId,
-                                Integer.parseInt(command.toString()));
+                        threads.get(SynoApiThread.THREAD_CAMERAEVENT).runOnce();
                         break;
                 }
+            } else {
+                handleFailure(channelUID, commandQueue.submit(() -> sendCommand(channelUID, command)));
             }
 
         } catch (
@@ -202,6 +208,80 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
 
     }
 
+    /**
+     * Sends a command to Surveillance Station, called by the command queue in the order the commands were received
+     *
+     * @param channelUID channel the command was sent to
+     * @param command command to send
+     * @return future of the command request
+     */
+    private CompletableFuture<?> sendCommand(ChannelUID channelUID, Command command) {
+        SynoWebApiHandler handler = apiHandler;
+        if (handler == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        switch (channelUID.getId()) {
+            case CHANNEL_ENABLE:
+                return handler.getApiCamera().toggleCameraAsync(cameraId, command.toString().equals("ON"));
+            case CHANNEL_RECORD:
+                return handler.getApiExternalRecording().toggleRecordingAsync(cameraId,
+                        command.toString().equals("ON"));
+            case CHANNEL_ZOOM:
+            case CHANNEL_MOVE:
+                return handler.getApiPTZ().executeAsync(cameraId, channelUID.getId(), command.toString());
+            case CHANNEL_MOVEPRESET:
+                String preset = checkOption(presets.getOptions(), command.toString());
+                if (!preset.isEmpty()) {
+                    return handler.getApiPTZ().goPresetAsync(cameraId, preset);
+                }
+                // Unknown preset, it may have been added on the station since the last load
+                presets.invalidate();
+                return updatePresets().thenCompose(v -> {
+                    String reloaded = checkOption(presets.getOptions(), command.toString());
+                    return reloaded.isEmpty() ? CompletableFuture.completedFuture(null)
+                            : handler.getApiPTZ().goPresetAsync(cameraId, reloaded);
+                });
+            case CHANNEL_RUNPATROL:
+                String patrol = checkOption(patrols.getOptions(), command.toString());
+                if (!patrol.isEmpty()) {
+                    return handler.getApiPTZ().runPatrolAsync(cameraId, patrol);
+                }
+                // Unknown patrol, it may have been added on the station since the last load
+                patrols.invalidate();
+                return updatePatrols().thenCompose(v -> {
+                    String reloaded = checkOption(patrols.getOptions(), command.toString());
+                    return reloaded.isEmpty() ? CompletableFuture.completedFuture(null)
+                            : handler.getApiPTZ().runPatrolAsync(cameraId, reloaded);
+                });
+            case CHANNEL_MDPARAM_SOURCE:
+                return handler.getApiCameraEvent().setSourceAsync(cameraId, command.toString());
+            case CHANNEL_MDPARAM_SENSITIVITY:
+            case CHANNEL_MDPARAM_THRESHOLD:
+            case CHANNEL_MDPARAM_OBJECTSIZE:
+            case CHANNEL_MDPARAM_PERCENTAGE:
+            case CHANNEL_MDPARAM_SHORTLIVE:
+                return handler.getApiCameraEvent().setParamAsync(cameraId, MDPARAM_NAMES.get(channelUID.getId()),
+                        Integer.parseInt(command.toString()));
+            default:
+                return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Logs a failed asynchronous command
+     *
+     * @param channelUID channel the command was sent to
+     * @param future future of the command request
+     */
+    private void handleFailure(ChannelUID channelUID, CompletableFuture<?> future) {
+        future.whenComplete((result, failure) -> {
+            if (failure != null) {
+                logger.error("handle command: {}::{} - {}", getThing().getLabel(), channelUID,
+                        WebApiException.fromFailure(failure).getMessage());
+            }
+        });
+    }
+
     @Override
     public boolean reconnect(boolean forceLogout) throws WebApiException {
         boolean ret = ((SynoBridgeHandler) getBridge().getHandler()).reconnect(forceLogout);
@@ -219,7 +299,15 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
             logger.debug("Initializing SynologySurveillanceStationHandler for cameraId '{}'", cameraId);
 
             if (getBridge().getStatus() == ThingStatus.ONLINE) {
-                apiHandler = ((SynoBridgeHandler) getBridge().getHandler()).getSynoWebApiHandler();
+                SynoBridgeHandler bridgeHandler = (SynoBridgeHandler) getBridge().getHandler();
+                apiHandler = bridgeHandler.getSynoWebApiHandler();
+                stateCache.clear();
+                pollOffline = false;
+                presets.clear();
+                patrols.clear();
+                stateCache.setRepublishInterval(bridgeHandler.getRepublishInterval());
+                commandQueue.configure(bridgeHandler.getCommandQueueSize(), bridgeHandler.getCommandOverflow());
+                updateLinks();
 
                 try {
                     List<String> toExclude = new ArrayList<>();
@@ -231,16 +319,17 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
                         return;
                     }
                     ptz = properties.getOrDefault(SynoApiResponse.PROP_PTZ, "false").equals("true");
+                    planner.setPtz(ptz);
 
                     if (!ptz) {
                         toExclude.addAll(CHANNEL_PTZ);
                     } else {
                         if (isLinked(CHANNEL_MOVEPRESET)) {
-                            updatePresets();
+                            handleFailure(new ChannelUID(getThing().getUID(), CHANNEL_MOVEPRESET), updatePresets());
                         }
 
                         if (isLinked(CHANNEL_RUNPATROL)) {
-                            updatePatrols();
+                            handleFailure(new ChannelUID(getThing().getUID(), CHANNEL_RUNPATROL), updatePatrols());
                         }
                     }
 
@@ -264,9 +353,8 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
                 }
 
                 updateStatus(ThingStatus.ONLINE);
-                for (SynoApiThread<SynoCameraHandler> thread : threads.values()) {
-                    thread.start();
-                }
+                updateLinks();
+                updateJobs();
 
                 refreshStatic();
             } else {
@@ -282,6 +370,36 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
 
     }
 
+    /**
+     * Reads the linked channels of this camera into the planner
+     */
+    private void updateLinks() {
+        List<String> linked = new ArrayList<>();
+        for (Channel channel : getThing().getChannels()) {
+            String channelId = channel.getUID().getId();
+            if (super.isLinked(channelId)) {
+                linked.add(channelId);
+            }
+        }
+        planner.setLinked(linked);
+        planner.setEventStream(isEventStreamEnabled());
+    }
+
+    /**
+     * Starts the refresh jobs needed for the linked channels and stops all others
+     */
+    private void updateJobs() {
+        for (Map.Entry<String, SynoApiThread<SynoCameraHandler>> thread : threads.entrySet()) {
+            boolean needed = planner.isNeeded(thread.getKey());
+            if (needed && !thread.getValue().isRunning()) {
+                thread.getValue().start();
+            } else if (!needed && thread.getValue().isRunning()) {
+                thread.getValue().stop();
+            }
+        }
+        logger.debug("Refresh jobs of camera {}: {}", cameraId, planner);
+    }
+
     public void refreshStatic() {
         for (String channelID : STATIC_CHANNELS) {
             if (isLinked(channelID)) {
@@ -296,6 +414,8 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
         for (SynoApiThread<SynoCameraHandler> thread : threads.values()) {
             thread.stop();
         }
+        commandQueue.clear();
+        invalidateLiveUri();
     }
 
     @Override
@@ -305,6 +425,7 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
             configuration.put(configurationParameter.getKey(), configurationParameter.getValue());
         }
         updateConfiguration(configuration);
+        invalidateLiveUri();
 
         int refreshRateSnapshot = Integer.parseInt(configurationParameters.get(REFRESH_RATE_SNAPSHOT).toString());
         int refreshRateEvents = Integer.parseInt(configurationParameters.get(REFRESH_RATE_EVENTS).toString());
@@ -315,6 +436,47 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
         threads.get(SynoApiThread.THREAD_CAMERA).setRefreshRate(refreshRateEvents);
         threads.get(SynoApiThread.THREAD_LIVEURI).setRefreshRate(refreshRateEvents);
         threads.get(SynoApiThread.THREAD_CAMERAEVENT).setRefreshRate(refreshRateCameraEvent);
+        setEventIntervals();
+        if (getThing().getStatus() == ThingStatus.ONLINE) {
+            updateJobs();
+        }
+    }
+
+    /**
+     * Drops the cached live URIs of this camera, they are fetched again with the next refresh
+     */
+    private void invalidateLiveUri() {
+        SynoWebApiHandler handler = apiHandler;
+        if (handler != null) {
+            handler.getApiLiveUri().invalidate(cameraId);
+        }
+    }
+
+    /**
+     * Passes the configured event poll intervals to the event thread
+     */
+    private void setEventIntervals() {
+        getEventThread().setPollIntervals(getConfigInt(EVENT_INTERVAL_MIN, 0), getConfigInt(EVENT_INTERVAL_MAX, 0));
+    }
+
+    /**
+     * Returns an integer configuration parameter or the default value if not set
+     *
+     * @param key configuration key
+     * @param defaultValue default value
+     * @return configured or default value
+     */
+    private int getConfigInt(String key, int defaultValue) {
+        Object value = thing.getConfiguration().get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return new BigDecimal(value.toString()).intValue();
+        } catch (NumberFormatException ex) {
+            logger.error("Error parsing camera Thing configuration {}: {}", key, value);
+            return defaultValue;
+        }
     }
 
     @Override
@@ -328,11 +490,17 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
 
     @Override
     public void channelLinked(ChannelUID channelUID) {
+        if (planner.setLinked(channelUID.getId(), true) && getThing().getStatus() == ThingStatus.ONLINE) {
+            updateJobs();
+        }
         handleCommand(channelUID, RefreshType.REFRESH);
     }
 
     @Override
     public void channelUnlinked(ChannelUID channelUID) {
+        if (planner.setLinked(channelUID.getId(), false) && getThing().getStatus() == ThingStatus.ONLINE) {
+            updateJobs();
+        }
     }
 
     @Override
@@ -350,19 +518,82 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
         return super.getBridge();
     }
 
+    /**
+     * Publishes the state if it differs from the last published one
+     */
     @Override
     public void updateState(ChannelUID channelUID, State state) {
-        super.updateState(channelUID, state);
+        if (stateCache.update(channelUID.getId(), state)) {
+            super.updateState(channelUID, state);
+        }
     }
 
     @Override
     public void updateState(String channel, State state) {
-        super.updateState(channel, state);
+        updateState(new ChannelUID(getThing().getUID(), channel), state);
+    }
+
+    /**
+     * @return the cache of published states of this camera
+     */
+    public SynoStateCache getStateCache() {
+        return stateCache;
+    }
+
+    /**
+     * @return the command queue of this camera
+     */
+    public SynoCommandQueue getCommandQueue() {
+        return commandQueue;
     }
 
+    /**
+     * @return if the channel is linked, as tracked by the poll planner
+     */
     @Override
     public boolean isLinked(String channelId) {
-        return super.isLinked(channelId);
+        return planner.isLinked(channelId);
+    }
+
+    /**
+     * Emits an event on a trigger channel
+     *
+     * @param channelId trigger channel id
+     * @param event event payload
+     */
+    public void triggerChannel(String channelId, String event) {
+        super.triggerChannel(channelId, event);
+    }
+
+    /**
+     * @return the scheduler of the station, which runs the refresh jobs of this camera
+     */
+    @Override
+    public @Nullable SynoPollScheduler getPollScheduler() {
+        SynoBridgeHandler bridgeHandler = getBridgeHandler();
+        return bridgeHandler == null ? null : bridgeHandler.getPollScheduler();
+    }
+
+    /**
+     * @return the event journal of the station, null if disabled
+     */
+    public @Nullable SynoEventJournal getEventJournal() {
+        SynoBridgeHandler bridgeHandler = getBridgeHandler();
+        return bridgeHandler == null ? null : bridgeHandler.getEventJournal();
+    }
+
+    private @Nullable SynoBridgeHandler getBridgeHandler() {
+        Bridge bridge = getBridge();
+        ThingHandler handler = bridge == null ? null : bridge.getHandler();
+        return handler instanceof SynoBridgeHandler ? (SynoBridgeHandler) handler : null;
+    }
+
+    /**
+     * @return if every event is to be published on the event stream trigger channel
+     */
+    public boolean isEventStreamEnabled() {
+        Object eventStream = getThing().getConfiguration().get(EVENT_STREAM);
+        return eventStream != null && Boolean.parseBoolean(eventStream.toString());
     }
 
     /**
@@ -386,49 +617,141 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
     }
 
     /**
-     * load and update options for presets
+     * @return the event state of this camera
+     */
+    public SynoApiThreadEvent getEventThread() {
+        return (SynoApiThreadEvent) threads.get(SynoApiThread.THREAD_EVENT);
+    }
+
+    /**
+     * Sets this camera offline after a failed poll of the station, the bridge is not affected
      *
-     * @return
-     * @throws WebApiException
+     * @param reason description of the failure
      */
-    public void updatePresets() throws WebApiException {
-        SimpleResponse listPresetResponse = apiHandler.getApiPTZ().listPresets(cameraId);
+    public void pollFailed(String reason) {
+        logger.debug("Poll of camera {} failed: {}", cameraId, reason);
+        if (getThing().getStatus() == ThingStatus.ONLINE) {
+            pollOffline = true;
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, reason);
+        }
+    }
 
-        JsonObject data = listPresetResponse.getData();
-        presets = new ArrayList<>();
-        if (data != null) {
-            JsonArray jsondata = data.getAsJsonArray("presets");
-            if (jsondata != null) {
-                for (JsonElement preset : jsondata) {
-                    JsonObject op = preset.getAsJsonObject();
-                    presets.add(new StateOption(op.get("id").getAsString(), op.get("name").getAsString()));
-                }
+    /**
+     * Sets this camera online again after a successful poll if a failed poll had set it offline
+     */
+    public void pollSucceeded() {
+        if (pollOffline) {
+            pollOffline = false;
+            if (getThing().getStatus() == ThingStatus.OFFLINE) {
+                updateStatus(ThingStatus.ONLINE);
             }
         }
-        stateDescriptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), CHANNEL_MOVEPRESET), presets);
     }
 
     /**
-     * load and update options for patrols
+     * @return if this camera is offline because of a failed poll only, so it is still to be polled
+     */
+    public boolean isPollOffline() {
+        return pollOffline;
+    }
+
+    /**
+     * @param job refresh job (thread type or {@link SynoPollPlanner#JOB_STATUS})
+     * @return if the job is needed to serve the linked channels of this camera
+     */
+    public boolean isJobNeeded(String job) {
+        return planner.isNeeded(job);
+    }
+
+    /**
+     * Updates the state channels (enabled, recording) from a camera info response
      *
-     * @return
-     * @throws WebApiException
+     * @param response camera info response, possibly containing several cameras
      */
-    public void updatePatrols() throws WebApiException {
-        SimpleResponse listPatrolResponse = apiHandler.getApiPTZ().listPatrol(cameraId);
+    public void updateCameraStatus(CameraResponse response) {
+        CameraResponseObject camera = response.getCamera(cameraId);
+        if (camera == null) {
+            logger.debug("Camera {} missing in camera info response", cameraId);
+            return;
+        }
+        if (isLinked(CHANNEL_ENABLE)) {
+            updateState(CHANNEL_ENABLE, camera.isEnabled() ? OnOffType.ON : OnOffType.OFF);
+        }
+        if (isLinked(CHANNEL_RECORD)) {
+            updateState(CHANNEL_RECORD, camera.isRecording() ? OnOffType.ON : OnOffType.OFF);
+        }
+    }
 
-        JsonObject data = listPatrolResponse.getData();
-        patrols = new ArrayList<>();
+    /**
+     * load and update options for presets, the options are only requested if not loaded before or expired
+     *
+     * @return future completing when the options are updated
+     */
+    public CompletableFuture<Void> updatePresets() {
+        return updateOptions(presets, CHANNEL_MOVEPRESET, "presets",
+                () -> apiHandler.getApiPTZ().listPresetsAsync(cameraId));
+    }
+
+    /**
+     * load and update options for patrols, the options are only requested if not loaded before or expired
+     *
+     * @return future completing when the options are updated
+     */
+    public CompletableFuture<Void> updatePatrols() {
+        return updateOptions(patrols, CHANNEL_RUNPATROL, "patrols",
+                () -> apiHandler.getApiPTZ().listPatrolAsync(cameraId));
+    }
+
+    /**
+     * Loads options (presets or patrols) if needed and updates the state description if they changed
+     *
+     * @param cache options of the channel
+     * @param channelId channel to update
+     * @param member name of the options array
+     * @param request list request
+     * @return future completing when the options are updated
+     */
+    private CompletableFuture<Void> updateOptions(SynoOptionCache cache, String channelId, String member,
+            Supplier<CompletableFuture<SimpleResponse>> request) {
+        if (!cache.startLoad()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return request.get().handle((response, failure) -> {
+            if (failure != null || !response.isSuccess()) {
+                cache.invalidate();
+            } else if (cache.update(getOptions(response, member))) {
+                logger.debug("{} of camera {} changed", member, cameraId);
+                stateDescriptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), channelId),
+                        cache.getOptions());
+            }
+            if (failure != null) {
+                throw failure instanceof CompletionException ? (CompletionException) failure
+                        : new CompletionException(failure);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Parses the options (presets or patrols) of a list response
+     *
+     * @param response list response
+     * @param member name of the options array
+     * @return parsed options
+     */
+    private List<StateOption> getOptions(SimpleResponse response, String member) {
+        List<StateOption> options = new ArrayList<>();
+        JsonObject data = response.getData();
         if (data != null) {
-            JsonArray jsondata = data.getAsJsonArray("patrols");
+            JsonArray jsondata = data.getAsJsonArray(member);
             if (jsondata != null) {
-                for (JsonElement patrol : jsondata) {
-                    JsonObject op = patrol.getAsJsonObject();
-                    patrols.add(new StateOption(op.get("id").getAsString(), op.get("name").getAsString()));
+                for (JsonElement option : jsondata) {
+                    JsonObject op = option.getAsJsonObject();
+                    options.add(new StateOption(op.get("id").getAsString(), op.get("name").getAsString()));
                 }
             }
         }
-        stateDescriptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), CHANNEL_RUNPATROL), patrols);
+        return options;
     }
 
     /**
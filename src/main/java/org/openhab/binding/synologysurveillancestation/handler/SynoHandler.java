@@ -14,6 +14,8 @@ package org.openhab.binding.synologysurveillancestation.handler;
 
 import java.util.concurrent.ScheduledExecutorService;
 
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.synologysurveillancestation.internal.thread.SynoPollScheduler;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoWebApiHandler;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 
@@ -27,6 +29,11 @@ public interface SynoHandler {
 
     public ScheduledExecutorService getScheduler();
 
+    /**
+     * @return the scheduler of the refresh jobs of the station, null if not available
+     */
+    public @Nullable SynoPollScheduler getPollScheduler();
+
     public SynoWebApiHandler getSynoWebApiHandler();
 
     public boolean reconnect(boolean forceLogout) throws WebApiException;
@@ -0,0 +1,264 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiRequest;
+
+/**
+ * The {@link SynoCommandQueue} sends the commands of one handler to Surveillance Station one after another, so the
+ * command thread of the framework is never blocked and commands are executed in the order they were received.
+ * A command is started on the executor as soon as the request of the previous one has completed, never on the thread
+ * completing that request.
+ *
+ * The queue is bounded; when it is full either the oldest waiting command is dropped or the new one is rejected.
+ * Commands waiting longer than {@link #MAX_WAIT} are outdated and dropped, a command not completing within
+ * {@link #COMMAND_TIMEOUT} fails so the following ones are not held up.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SynoCommandQueue {
+
+    public static final int DEFAULT_MAX_DEPTH = 16;
+    // Maximum time in seconds a command waits in the queue before it is dropped as outdated
+    public static final int MAX_WAIT = 60;
+    // Maximum time in seconds a started command may take, covering request limiter wait, request and session renewal
+    public static final int COMMAND_TIMEOUT = 90;
+
+    /**
+     * Behaviour when a command is submitted to a full queue
+     */
+    public enum Overflow {
+        DROP_OLDEST,
+        REJECT;
+
+        /**
+         * @param value configuration value (drop-oldest, reject)
+         * @return matching policy, {@link #DROP_OLDEST} for unknown values
+         */
+        public static Overflow parse(@Nullable String value) {
+            return "reject".equalsIgnoreCase(value) ? REJECT : DROP_OLDEST;
+        }
+    }
+
+    // Waiting commands and state, guarded by this
+    private final Deque<QueuedCommand> queue = new ArrayDeque<>();
+    private boolean running = false;
+    private int maxDepth = DEFAULT_MAX_DEPTH;
+    private Overflow overflow = Overflow.DROP_OLDEST;
+
+    private final ScheduledExecutorService executor;
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * @param executor executor starting the commands and timing them out
+     */
+    public SynoCommandQueue(ScheduledExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @param maxDepth maximum number of waiting commands
+     * @param overflow behaviour when the queue is full
+     */
+    public synchronized void configure(int maxDepth, Overflow overflow) {
+        this.maxDepth = Math.max(1, maxDepth);
+        this.overflow = overflow;
+    }
+
+    /**
+     * Queues a command. The command is started after all previously queued commands have completed.
+     *
+     * @param command starts the command request and returns its future
+     * @return future completed with the command's result, or failed with a {@link RejectedExecutionException} if
+     *         the command was dropped
+     */
+    public CompletableFuture<@Nullable Object> submit(Supplier<CompletableFuture<?>> command) {
+        QueuedCommand queued = new QueuedCommand(command);
+        @Nullable
+        QueuedCommand rejected = null;
+        boolean start = false;
+        synchronized (this) {
+            if (queue.size() >= maxDepth && overflow == Overflow.REJECT) {
+                rejected = queued;
+            } else {
+                if (queue.size() >= maxDepth) {
+                    rejected = queue.poll();
+                }
+                queue.add(queued);
+                if (!running) {
+                    running = true;
+                    start = true;
+                }
+            }
+        }
+        if (rejected != null) {
+            dropped.increment();
+            rejected.result.completeExceptionally(new RejectedExecutionException("Command queue full"));
+        }
+        if (start) {
+            dispatchNext();
+        }
+        return queued.result;
+    }
+
+    /**
+     * Starts the next waiting command on the executor
+     */
+    private void dispatchNext() {
+        try {
+            executor.execute(this::runNext);
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                running = false;
+            }
+            clear();
+        }
+    }
+
+    /**
+     * Starts the next waiting command, if any. Outdated commands are dropped.
+     */
+    private void runNext() {
+        QueuedCommand next;
+        long wait;
+        while (true) {
+            synchronized (this) {
+                next = queue.poll();
+                if (next == null) {
+                    running = false;
+                    return;
+                }
+            }
+            wait = System.nanoTime() - next.queued;
+            if (wait <= TimeUnit.SECONDS.toNanos(MAX_WAIT)) {
+                break;
+            }
+            dropped.increment();
+            next.result.completeExceptionally(new TimeoutException("Command outdated in queue"));
+        }
+        waitNanos.add(wait);
+        maxWaitNanos.accumulateAndGet(wait, Math::max);
+        executed.increment();
+
+        CompletableFuture<?> future;
+        try {
+            future = next.command.get();
+        } catch (RuntimeException e) {
+            future = SynoApiRequest.failedFuture(e);
+        }
+        QueuedCommand current = next;
+        ScheduledFuture<?> timeout = executor.schedule(() -> {
+            if (current.result.completeExceptionally(new TimeoutException("Command timed out"))) {
+                dispatchNext();
+            }
+        }, COMMAND_TIMEOUT, TimeUnit.SECONDS);
+        future.whenComplete((result, failure) -> {
+            timeout.cancel(false);
+            boolean completed = failure != null ? current.result.completeExceptionally(failure)
+                    : current.result.complete(result);
+            if (completed) {
+                dispatchNext();
+            }
+        });
+    }
+
+    /**
+     * Drops all waiting commands, e.g. when the handler is disposed
+     */
+    public void clear() {
+        List<QueuedCommand> waiting;
+        synchronized (this) {
+            waiting = new ArrayList<>(queue);
+            queue.clear();
+        }
+        for (QueuedCommand command : waiting) {
+            dropped.increment();
+            command.result.completeExceptionally(new RejectedExecutionException("Command queue cleared"));
+        }
+    }
+
+    /**
+     * @return number of waiting commands
+     */
+    public synchronized int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * @return number of started commands
+     */
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * @return number of dropped or rejected commands
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return accumulated time commands waited in the queue in milliseconds
+     */
+    public long getWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos.sum());
+    }
+
+    /**
+     * @return longest time a command waited in the queue in milliseconds
+     */
+    public long getMaxWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return "executed=" + getExecutedCount() + ", dropped=" + getDroppedCount() + ", wait=" + getWaitMillis()
+                + " ms, max wait=" + getMaxWaitMillis() + " ms, queued=" + getQueuedCount();
+    }
+
+    /**
+     * Waiting command
+     */
+    private static class QueuedCommand {
+        private final Supplier<CompletableFuture<?>> command;
+        private final CompletableFuture<@Nullable Object> result = new CompletableFuture<>();
+        private final long queued = System.nanoTime();
+
+        QueuedCommand(Supplier<CompletableFuture<?>> command) {
+            this.command = command;
+        }
+    }
+}
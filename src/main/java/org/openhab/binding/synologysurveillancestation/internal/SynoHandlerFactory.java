@@ -18,8 +18,9 @@ import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Map;
 
+import javax.servlet.ServletException;
+
 import org.eclipse.jdt.annotation.Nullable;
-import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.smarthome.config.discovery.DiscoveryService;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.Thing;
@@ -33,10 +34,13 @@ import org.openhab.binding.synologysurveillancestation.handler.SynoBridgeHandler
 import org.openhab.binding.synologysurveillancestation.handler.SynoCameraHandler;
 import org.openhab.binding.synologysurveillancestation.internal.discovery.CameraDiscoveryService;
 import org.openhab.binding.synologysurveillancestation.internal.discovery.SynoDynamicStateDescriptionProvider;
+import org.openhab.binding.synologysurveillancestation.internal.webhook.SynoWebhookServlet;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.http.HttpService;
+import org.osgi.service.http.NamespaceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,26 +56,49 @@ public class SynoHandlerFactory extends BaseThingHandlerFactory {
 
     private final Logger logger = LoggerFactory.getLogger(SynoHandlerFactory.class);
     private Map<ThingUID, ServiceRegistration<?>> discoveryServiceRegs = new HashMap<>();
-    private HttpClient httpClient;
+    private HttpClientFactory httpClientFactory;
 
     private SynoDynamicStateDescriptionProvider stateDescriptionProvider;
 
+    private HttpService httpService;
+    private final SynoWebhookServlet webhookServlet = new SynoWebhookServlet();
+
     @Reference
     protected void setHttpClientFactory(HttpClientFactory httpClientFactory) {
-        this.httpClient = httpClientFactory.getCommonHttpClient();
+        this.httpClientFactory = httpClientFactory;
     }
 
     protected void unsetHttpClientFactory(HttpClientFactory httpClientFactory) {
-        this.httpClient = null;
+        this.httpClientFactory = null;
+    }
+
+    @Reference
+    protected void setHttpService(HttpService httpService) {
+        this.httpService = httpService;
+    }
+
+    protected void unsetHttpService(HttpService httpService) {
+        this.httpService = null;
     }
 
     @Override
     protected void activate(ComponentContext componentContext) {
         super.activate(componentContext);
+        try {
+            httpService.registerServlet(SynoWebhookServlet.SERVLET_PATH, webhookServlet, null,
+                    httpService.createDefaultHttpContext());
+        } catch (ServletException | NamespaceException e) {
+            logger.error("Error registering webhook servlet: {}", e.getMessage());
+        }
     }
 
     @Override
     protected void deactivate(ComponentContext componentContext) {
+        try {
+            httpService.unregister(SynoWebhookServlet.SERVLET_PATH);
+        } catch (IllegalArgumentException e) {
+            logger.debug("Webhook servlet not registered");
+        }
         super.deactivate(componentContext);
     }
 
@@ -85,9 +112,10 @@ public class SynoHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (thingTypeUID.equals(THING_TYPE_STATION)) {
-            SynoBridgeHandler bridgeHandler = new SynoBridgeHandler((Bridge) thing, httpClient);
+            SynoBridgeHandler bridgeHandler = new SynoBridgeHandler((Bridge) thing, httpClientFactory);
             CameraDiscoveryService discoveryService = new CameraDiscoveryService(bridgeHandler);
             bridgeHandler.setDiscovery(discoveryService);
+            webhookServlet.addBridge(bridgeHandler);
             this.discoveryServiceRegs.put(thing.getUID(), bundleContext.registerService(
                     DiscoveryService.class.getName(), discoveryService, new Hashtable<String, Object>()));
 
@@ -101,6 +129,9 @@ public class SynoHandlerFactory extends BaseThingHandlerFactory {
 
     @Override
     protected void removeHandler(ThingHandler handler) {
+        if (handler instanceof SynoBridgeHandler) {
+            webhookServlet.removeBridge((SynoBridgeHandler) handler);
+        }
         if (handler.getThing().getThingTypeUID().equals(THING_TYPE_STATION)) {
             ServiceRegistration<?> serviceReg = this.discoveryServiceRegs.get(handler.getThing().getUID());
             if (serviceReg != null) {
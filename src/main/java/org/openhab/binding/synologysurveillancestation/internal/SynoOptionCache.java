@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.smarthome.core.types.StateOption;
+
+/**
+ * The {@link SynoOptionCache} holds a list of state options (PTZ presets or patrols) of a camera. The list is
+ * reloaded after a time to live or on request and is only reported as changed if its content differs.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SynoOptionCache {
+
+    // Time after which the options are loaded again
+    public static final long OPTIONS_TTL = TimeUnit.MINUTES.toNanos(10);
+
+    private volatile List<StateOption> options = Collections.emptyList();
+    private int hash = 0;
+    private long loaded = 0;
+    private boolean valid = false;
+
+    /**
+     * Checks if the options have to be loaded and marks them as loading if so, so that concurrent callers do not
+     * load them again
+     *
+     * @return true if the caller has to load the options
+     */
+    public synchronized boolean startLoad() {
+        if (valid && System.nanoTime() - loaded < OPTIONS_TTL) {
+            return false;
+        }
+        valid = true;
+        loaded = System.nanoTime();
+        return true;
+    }
+
+    /**
+     * Stores loaded options
+     *
+     * @param newOptions loaded options
+     * @return true if the options differ from the previous ones
+     */
+    public synchronized boolean update(List<StateOption> newOptions) {
+        int newHash = hash(newOptions);
+        if (newHash == hash && equal(options, newOptions)) {
+            return false;
+        }
+        options = Collections.unmodifiableList(new ArrayList<>(newOptions));
+        hash = newHash;
+        return true;
+    }
+
+    /**
+     * Forces the options to be loaded with the next {@link #startLoad()}
+     */
+    public synchronized void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Forgets the options, e.g. when the handler is initialized again
+     */
+    public synchronized void clear() {
+        options = Collections.emptyList();
+        hash = 0;
+        valid = false;
+    }
+
+    /**
+     * @return the current options
+     */
+    public List<StateOption> getOptions() {
+        return options;
+    }
+
+    private static int hash(List<StateOption> list) {
+        int h = 1;
+        for (StateOption option : list) {
+            h = 31 * h + option.getValue().hashCode();
+            h = 31 * h + Objects.hashCode(option.getLabel());
+        }
+        return h;
+    }
+
+    private static boolean equal(List<StateOption> a, List<StateOption> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            if (!a.get(i).getValue().equals(b.get(i).getValue())
+                    || !Objects.equals(a.get(i).getLabel(), b.get(i).getLabel())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.smarthome.core.library.types.RawType;
+import org.eclipse.smarthome.core.types.State;
+
+/**
+ * The {@link SynoStateCache} remembers the last published state of each channel of a handler, so unchanged states
+ * are not published again. Images are always published and not retained.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SynoStateCache {
+
+    private final Map<String, PublishedState> states = new ConcurrentHashMap<>();
+    private volatile long republishNanos = 0;
+    private final LongAdder published = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * @param seconds interval after which an unchanged state is published again, 0 to publish changes only
+     */
+    public void setRepublishInterval(int seconds) {
+        republishNanos = TimeUnit.SECONDS.toNanos(Math.max(0, seconds));
+    }
+
+    /**
+     * Checks if a state is to be published and remembers it if so
+     *
+     * @param channelId channel id
+     * @param state new state
+     * @return false if the state equals the last published one
+     */
+    public boolean update(String channelId, State state) {
+        if (state instanceof RawType) {
+            published.increment();
+            return true;
+        }
+        long now = System.nanoTime();
+        PublishedState last = states.get(channelId);
+        if (last != null && last.state.equals(state) && (republishNanos == 0 || now - last.time < republishNanos)) {
+            suppressed.increment();
+            return false;
+        }
+        states.put(channelId, new PublishedState(state, now));
+        published.increment();
+        return true;
+    }
+
+    /**
+     * Forgets the state of a channel, e.g. after a command, so the next state is published
+     *
+     * @param channelId channel id
+     */
+    public void invalidate(String channelId) {
+        states.remove(channelId);
+    }
+
+    /**
+     * Forgets all states
+     */
+    public void clear() {
+        states.clear();
+    }
+
+    /**
+     * @return number of published states
+     */
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    /**
+     * @return number of suppressed unchanged states
+     */
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "published=" + getPublishedCount() + ", suppressed=" + getSuppressedCount();
+    }
+
+    private static class PublishedState {
+        private final State state;
+        private final long time;
+
+        PublishedState(State state, long time) {
+            this.state = state;
+            this.time = time;
+        }
+    }
+
+}
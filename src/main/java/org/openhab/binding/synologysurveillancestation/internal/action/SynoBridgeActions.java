@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.action;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.thing.binding.ThingActions;
+import org.eclipse.smarthome.core.thing.binding.ThingActionsScope;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
+import org.openhab.binding.synologysurveillancestation.handler.SynoBridgeHandler;
+import org.openhab.binding.synologysurveillancestation.internal.journal.SynoEventJournal;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoEvent;
+import org.openhab.core.automation.annotation.ActionInput;
+import org.openhab.core.automation.annotation.ActionOutput;
+import org.openhab.core.automation.annotation.RuleAction;
+
+/**
+ * The {@link SynoBridgeActions} provides rule actions of a station, answered from the local event journal
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@ThingActionsScope(name = "synologysurveillancestation")
+@NonNullByDefault
+public class SynoBridgeActions implements ThingActions {
+
+    private @Nullable SynoBridgeHandler handler;
+
+    @Override
+    public void setThingHandler(@Nullable ThingHandler handler) {
+        if (handler instanceof SynoBridgeHandler) {
+            this.handler = (SynoBridgeHandler) handler;
+        }
+    }
+
+    @Override
+    public @Nullable ThingHandler getThingHandler() {
+        return handler;
+    }
+
+    @RuleAction(label = "query events", description = "Finds recorded events of a camera started within a time range")
+    public @ActionOutput(name = "events", type = "java.lang.String", label = "Events as JSON array") String queryEvents(
+            @ActionInput(name = "cameraId", label = "Camera ID") @Nullable String cameraId,
+            @ActionInput(name = "reason", label = "Event reason, e.g. motion (empty for all)") @Nullable String reason,
+            @ActionInput(name = "from", label = "Start of the range in seconds since epoch") @Nullable Long from,
+            @ActionInput(name = "to", label = "End of the range in seconds since epoch") @Nullable Long to) {
+        SynoBridgeHandler bridgeHandler = handler;
+        SynoEventJournal journal = bridgeHandler == null ? null : bridgeHandler.getEventJournal();
+        if (journal == null || cameraId == null) {
+            return "[]";
+        }
+        int reasonId = reason == null || reason.isEmpty() ? 0 : SynoEvent.getReason(reason);
+        if (reasonId == 0 && reason != null && !reason.isEmpty()) {
+            return "[]";
+        }
+        List<SynoEvent> events = journal.query(cameraId, reasonId, from == null ? 0 : from,
+                to == null ? Long.MAX_VALUE : to);
+        StringJoiner json = new StringJoiner(",", "[", "]");
+        for (SynoEvent event : events) {
+            json.add(event.toJson());
+        }
+        return json.toString();
+    }
+
+    public static String queryEvents(@Nullable ThingActions actions, @Nullable String cameraId,
+            @Nullable String reason, long from, long to) {
+        if (actions instanceof SynoBridgeActions) {
+            return ((SynoBridgeActions) actions).queryEvents(cameraId, reason, from, to);
+        } else {
+            throw new IllegalArgumentException("Instance is not a SynoBridgeActions class.");
+        }
+    }
+
+}
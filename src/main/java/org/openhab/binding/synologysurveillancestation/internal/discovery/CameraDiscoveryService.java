@@ -31,13 +31,10 @@ import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoWebAp
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.CameraResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.CameraResponseObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-
 /**
  * The {@link CameraDiscoveryService} is a service for discovering your cameras through Synology API
  *
@@ -97,33 +94,24 @@ public class CameraDiscoveryService extends AbstractDiscoveryService {
             CameraResponse response = apiHandler.getApiCamera().listCameras();
 
             if (response.isSuccess()) {
-                JsonArray cameras = response.getCameras();
-
                 ThingUID bridgeUID = bridgeHandler.getThing().getUID();
 
-                if (cameras != null) {
-                    for (JsonElement camera : cameras) {
-
-                        if (camera.isJsonObject()) {
-                            JsonObject cam = camera.getAsJsonObject();
-
-                            String cameraId = cam.get("id").getAsString();
+                for (CameraResponseObject camera : response.getCameras()) {
+                    String cameraId = camera.getId();
 
-                            CameraResponse cameraDetails = apiHandler.getApiCamera().getInfo(cameraId);
+                    CameraResponse cameraDetails = apiHandler.getApiCamera().getInfo(cameraId);
 
-                            ThingUID thingUID = new ThingUID(THING_TYPE_CAMERA, bridgeUID, cameraId);
+                    ThingUID thingUID = new ThingUID(THING_TYPE_CAMERA, bridgeUID, cameraId);
 
-                            Map<String, Object> properties = cameraDetails.getCameraProperties(cameraId);
+                    Map<String, Object> properties = cameraDetails.getCameraProperties(cameraId);
 
-                            DiscoveryResult discoveryResult = DiscoveryResultBuilder.create(thingUID)
-                                    .withProperties(properties).withBridge(bridgeHandler.getThing().getUID())
-                                    .withLabel(cam.get("name").getAsString()).build();
+                    DiscoveryResult discoveryResult = DiscoveryResultBuilder.create(thingUID)
+                            .withProperties(properties).withBridge(bridgeHandler.getThing().getUID())
+                            .withLabel(camera.getName()).build();
 
-                            thingDiscovered(discoveryResult);
+                    thingDiscovered(discoveryResult);
 
-                            logger.debug("Discovered a camera thing with ID '{}'", cameraId);
-                        }
-                    }
+                    logger.debug("Discovered a camera thing with ID '{}'", cameraId);
                 }
             }
 
@@ -0,0 +1,282 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoEvent;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoEventIdSet;
+
+/**
+ * The {@link SynoEventJournal} is a memory-mapped, append-only journal of the events of one station. It has a fixed
+ * size and overwrites its oldest events once full.
+ *
+ * Each record has a time index which is the start time of the event, raised to the index of the previous record if
+ * an event is listed late. The index never decreases, so queries find their first record by binary search.
+ * A running event is appended when it is first seen and its stop time is written once it completes.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SynoEventJournal implements Closeable {
+
+    // Maximum number of events returned by a query
+    public static final int MAX_RESULTS = 1000;
+
+    private static final int MAGIC = 0x53534a31; // "SSJ1"
+    private static final int HEADER_SIZE = 64;
+    private static final int RECORD_SIZE = 32;
+    // Number of recent events remembered to skip repeated listings
+    private static final int RECENT_EVENTS = 256;
+
+    // Header layout
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_CAPACITY = 4;
+    private static final int HEADER_TOTAL = 8;
+    private static final int HEADER_MAX_SKEW = 16;
+
+    // Record layout, times are unsigned seconds since epoch
+    private static final int RECORD_EVENT_ID = 0;
+    private static final int RECORD_INDEX = 8;
+    private static final int RECORD_START = 12;
+    private static final int RECORD_STOP = 16;
+    private static final int RECORD_CAMERA = 20;
+    private static final int RECORD_REASON = 24;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private long total;
+    private long maxSkew;
+    private long lastIndex;
+
+    // Running events and their record number
+    private final Map<Long, Long> running = new LinkedHashMap<Long, Long>(16, 0.75f, false) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            return size() > RECENT_EVENTS;
+        }
+    };
+    private final SynoEventIdSet completed = new SynoEventIdSet(RECENT_EVENTS);
+
+    /**
+     * Opens or creates a journal. A journal of a different size is discarded.
+     *
+     * @param file journal file
+     * @param size journal size in bytes
+     * @throws IOException
+     */
+    public SynoEventJournal(Path file, int size) throws IOException {
+        capacity = Math.max(1, (size - HEADER_SIZE) / RECORD_SIZE);
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            long length = HEADER_SIZE + (long) capacity * RECORD_SIZE;
+            boolean valid = channel.size() == length;
+            if (!valid) {
+                channel.truncate(0);
+            }
+            buffer = channel.map(MapMode.READ_WRITE, 0, length);
+            if (valid && buffer.getInt(HEADER_MAGIC) == MAGIC && buffer.getInt(HEADER_CAPACITY) == capacity) {
+                total = buffer.getLong(HEADER_TOTAL);
+                maxSkew = buffer.getLong(HEADER_MAX_SKEW);
+                load();
+            } else {
+                buffer.putInt(HEADER_MAGIC, MAGIC);
+                buffer.putInt(HEADER_CAPACITY, capacity);
+                writeHeader();
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Restores the running and recently completed events
+     */
+    private void load() {
+        long first = total - size();
+        for (long record = first; record < total; record++) {
+            int offset = offset(record);
+            long eventId = buffer.getLong(offset + RECORD_EVENT_ID);
+            if (getTime(offset + RECORD_STOP) == 0) {
+                running.put(eventId, record);
+            } else if (record >= total - RECENT_EVENTS) {
+                completed.add(eventId);
+            }
+        }
+        if (total > 0) {
+            lastIndex = getTime(offset(total - 1) + RECORD_INDEX);
+        }
+    }
+
+    /**
+     * Records an event, an event already recorded is only updated when it completes
+     *
+     * @param cameraId camera id
+     * @param event event
+     */
+    public synchronized void record(String cameraId, SynoEvent event) {
+        int camera;
+        try {
+            camera = Integer.parseInt(cameraId);
+        } catch (NumberFormatException e) {
+            return;
+        }
+        long eventId = event.getEventId();
+        Long record = running.get(eventId);
+        if (record != null) {
+            if (event.isEventCompleted()) {
+                running.remove(eventId);
+                completed.add(eventId);
+                if (record >= total - size()) {
+                    putTime(offset(record) + RECORD_STOP, event.getStopTime());
+                }
+            }
+            return;
+        }
+        if (completed.contains(eventId)) {
+            return;
+        }
+
+        long index = Math.max(lastIndex, event.getStartTime());
+        int offset = offset(total);
+        buffer.putLong(offset + RECORD_EVENT_ID, eventId);
+        putTime(offset + RECORD_INDEX, index);
+        putTime(offset + RECORD_START, event.getStartTime());
+        putTime(offset + RECORD_STOP, event.getStopTime());
+        buffer.putInt(offset + RECORD_CAMERA, camera);
+        buffer.putInt(offset + RECORD_REASON, event.getReason());
+
+        if (event.isEventCompleted()) {
+            completed.add(eventId);
+        } else {
+            running.put(eventId, total);
+        }
+        lastIndex = index;
+        maxSkew = Math.max(maxSkew, index - event.getStartTime());
+        total++;
+        writeHeader();
+    }
+
+    /**
+     * Finds the events of a camera started within a time range, oldest first
+     *
+     * @param cameraId camera id
+     * @param reason event reason or 0 for all reasons
+     * @param from start of the range in seconds since epoch
+     * @param to end of the range in seconds since epoch
+     * @return matching events, at most {@link #MAX_RESULTS}
+     */
+    public synchronized List<SynoEvent> query(String cameraId, int reason, long from, long to) {
+        List<SynoEvent> events = new ArrayList<>();
+        int camera;
+        try {
+            camera = Integer.parseInt(cameraId);
+        } catch (NumberFormatException e) {
+            return events;
+        }
+
+        // first record with index >= from, the start time of every later match is not below its index
+        long first = total - size();
+        long low = first;
+        long high = total;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (getTime(offset(mid) + RECORD_INDEX) < from) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        long lastIndexInRange = to > Long.MAX_VALUE - maxSkew ? Long.MAX_VALUE : to + maxSkew;
+        for (long record = low; record < total && events.size() < MAX_RESULTS; record++) {
+            int offset = offset(record);
+            if (getTime(offset + RECORD_INDEX) > lastIndexInRange) {
+                break;
+            }
+            long start = getTime(offset + RECORD_START);
+            int recordReason = buffer.getInt(offset + RECORD_REASON);
+            if (start >= from && start <= to && buffer.getInt(offset + RECORD_CAMERA) == camera
+                    && (reason == 0 || recordReason == reason)) {
+                long stop = getTime(offset + RECORD_STOP);
+                events.add(new SynoEvent(buffer.getLong(offset + RECORD_EVENT_ID), stop != 0, recordReason, start,
+                        stop));
+            }
+        }
+        return events;
+    }
+
+    /**
+     * @return number of events in the journal
+     */
+    public synchronized int size() {
+        return (int) Math.min(total, capacity);
+    }
+
+    /**
+     * @return maximum number of events in the journal
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return size() + "/" + capacity;
+    }
+
+    private void writeHeader() {
+        buffer.putLong(HEADER_TOTAL, total);
+        buffer.putLong(HEADER_MAX_SKEW, maxSkew);
+    }
+
+    private int offset(long record) {
+        return HEADER_SIZE + (int) (record % capacity) * RECORD_SIZE;
+    }
+
+    private long getTime(int offset) {
+        return buffer.getInt(offset) & 0xffffffffL;
+    }
+
+    private void putTime(int offset, long time) {
+        buffer.putInt(offset, (int) time);
+    }
+
+}
@@ -12,9 +12,8 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.thread;
 
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -27,6 +26,7 @@ import org.openhab.binding.synologysurveillancestation.handler.SynoCameraHandler
 import org.openhab.binding.synologysurveillancestation.handler.SynoHandler;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,9 +48,10 @@ public abstract class SynoApiThread<T extends BaseThingHandler & SynoHandler> {
     public static final String THREAD_HOMEMODE = "HomeMode";
     public static final String THREAD_LIVEURI = "LiveUri";
     public static final String THREAD_CAMERAEVENT = "CameraEvent";
+    public static final String THREAD_CAMERAPOLL = "CameraPoll";
 
     private final AtomicBoolean refreshInProgress = new AtomicBoolean(false);
-    private @Nullable ScheduledFuture<?> future;
+    private volatile SynoPollScheduler.@Nullable Job job;
     private int refreshRate; // Refresh rate in seconds
     private final T synoHandler; // Bridge or Camera Thing handler
     private final String name; // Thread name / type
@@ -62,15 +63,16 @@ public abstract class SynoApiThread<T extends BaseThingHandler & SynoHandler> {
     private Runnable runnable = new Runnable() {
         @Override
         public void run() {
-            try {
-                if (refreshInProgress.compareAndSet(false, true)) {
-                    runOnce();
+            if (refreshInProgress.compareAndSet(false, true)) {
+                try {
+                    runOnce().whenComplete((success, failure) -> refreshInProgress.set(false));
+                } catch (IllegalStateException e) {
                     refreshInProgress.set(false);
+                    logger.debug("Thread {}: Refreshing Thing failed, handler might be OFFLINE", name);
+                } catch (Exception e) {
+                    refreshInProgress.set(false);
+                    logger.error("Thread {}: Unknown error", name, e);
                 }
-            } catch (IllegalStateException e) {
-                logger.debug("Thread {}: Refreshing Thing failed, handler might be OFFLINE", name);
-            } catch (Exception e) {
-                logger.error("Thread {}: Unknown error", name, e);
             }
         }
     };
@@ -90,74 +92,119 @@ public abstract class SynoApiThread<T extends BaseThingHandler & SynoHandler> {
     }
 
     /**
-     * Starts the refresh job
+     * Starts the refresh job on the scheduler of the station, which spreads the jobs of all cameras
      */
     public void start() {
         if (refreshRate > 0) {
-            ScheduledExecutorService scheduler = synoHandler.getScheduler();
+            SynoPollScheduler scheduler = synoHandler.getPollScheduler();
 
             if (scheduler != null) {
-                if (this.name == THREAD_SNAPSHOT) {
-                    future = scheduler.scheduleAtFixedRate(runnable, 0, refreshRate, TimeUnit.SECONDS);
-                } else {
-                    future = scheduler.scheduleWithFixedDelay(runnable, 0, refreshRate, TimeUnit.SECONDS);
-                }
+                job = scheduler.schedule(runnable, refreshRate);
+            } else {
+                logger.debug("DeviceId: {}; Thread: {}; No scheduler available", deviceId, name);
             }
         }
     }
 
     /**
-     * Stops the refresh job
+     * Stops the refresh job. Cancelling takes effect at once, a refresh already running completes on its own.
      */
     public void stop() {
-        if (future != null) {
-            future.cancel(false);
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-            }
+        SynoPollScheduler.Job current = job;
+        if (current != null) {
+            current.cancel();
+            job = null;
         }
     }
 
+    /**
+     * @return if the refresh job is scheduled
+     */
+    public boolean isRunning() {
+        return job != null;
+    }
+
     /**
      * Abstract dummy for a refresh function
      */
     public abstract boolean refresh() throws Exception;
 
+    /**
+     * Asynchronous refresh, completes with the refresh result. Defaults to the blocking {@link #refresh()}.
+     *
+     * @return future of the refresh result
+     */
+    public CompletableFuture<Boolean> refreshAsync() {
+        try {
+            return CompletableFuture.completedFuture(refresh());
+        } catch (Exception e) {
+            return SynoApiRequest.failedFuture(e);
+        }
+    }
+
     /**
      * Run the runnable just once (for manual refresh)
+     *
+     * @return future completing with the refresh result after the handler status has been updated
      */
-    public void runOnce() {
+    public CompletableFuture<Boolean> runOnce() {
         if (getSynoHandler().getSynoWebApiHandler() == null) {
             logger.error("DeviceId: {}; Thread: {}; Handler not (yet) initialized", deviceId, name);
-        } else if (isNeeded()) {
-            logger.debug("Thread {} tick", name);
-            boolean success = false;
-            try {
-                success = refresh();
-            } catch (WebApiException e) {
-                if (e.getCause() instanceof java.util.concurrent.TimeoutException) {
-                    logger.debug(
-                            "DeviceId: {}; {} API timeout, consider to increase refresh rate ({} s) if seen frequently",
-                            deviceId, name, refreshRate);
-                    success = true;
-                } else if (e.getErrorCode() == WebApiAuthErrorCodes.INSUFFICIENT_USER_PRIVILEGE.getCode()
-                        || e.getErrorCode() == WebApiAuthErrorCodes.UNKNOWN_ERROR_119.getCode()) {
-                    logger.debug("DeviceId: {}; Thread: {}; SID expired, trying to reconnect", deviceId, name);
-                    try {
-                        getSynoHandler().reconnect(true);
-                    } catch (WebApiException ee) {
-                        logger.error("DeviceId: {}; Thread: {}; Attempt to reconnect failed", deviceId, name);
-                    }
-                } else {
-                    logger.error("DeviceId: {}; Thread: {}; Handler gone offline", deviceId, name);
-                }
-            } catch (Exception e) {
-                logger.error("DeviceId: {}; Thread: {}; Critical error:\n", deviceId, name, e);
+            return CompletableFuture.completedFuture(false);
+        } else if (!isNeeded()) {
+            return CompletableFuture.completedFuture(true);
+        }
+
+        logger.debug("Thread {} tick", name);
+        CompletableFuture<Boolean> refresh;
+        try {
+            refresh = refreshAsync();
+        } catch (Exception e) {
+            refresh = SynoApiRequest.failedFuture(e);
+        }
+
+        return refresh.handle((result, failure) -> {
+            boolean success = failure == null ? Boolean.TRUE.equals(result) : handleFailure(failure);
+            if (isStatusSource()) {
+                updateStatus(success);
             }
+            return success;
+        });
+    }
+
+    /**
+     * @return if the result of a refresh sets the status of the handler, defaults to true
+     */
+    protected boolean isStatusSource() {
+        return true;
+    }
 
-            updateStatus(success);
+    /**
+     * Handles a failed refresh
+     *
+     * @param failure exception of the refresh
+     * @return if the failure is to be considered as success (timeout)
+     */
+    private boolean handleFailure(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause()
+                : failure;
+        if (!(cause instanceof WebApiException)) {
+            logger.error("DeviceId: {}; Thread: {}; Critical error:\n", deviceId, name, cause);
+            return false;
+        }
+        WebApiException e = (WebApiException) cause;
+        if (e.getCause() instanceof java.util.concurrent.TimeoutException) {
+            logger.debug("DeviceId: {}; {} API timeout, consider to increase refresh rate ({} s) if seen frequently",
+                    deviceId, name, refreshRate);
+            return true;
+        } else if (WebApiAuthErrorCodes.isSessionError(e.getErrorCode())) {
+            // Expired sessions are renewed by the request itself, so the error persisted after a new login
+            logger.error("DeviceId: {}; Thread: {}; Session could not be renewed: {}", deviceId, name,
+                    e.getMessage());
+        } else {
+            logger.error("DeviceId: {}; Thread: {}; Handler gone offline", deviceId, name);
         }
+        return false;
     }
 
     /**
@@ -192,13 +239,15 @@ public abstract class SynoApiThread<T extends BaseThingHandler & SynoHandler> {
     }
 
     /**
-     * @param refreshRate The refreshRate to be set
+     * @param refreshRate The refreshRate to be set, a running refresh job is rescheduled
      */
     public void setRefreshRate(int refreshRate) {
         if (this.refreshRate != refreshRate) {
             this.refreshRate = refreshRate;
-            stop();
-            start();
+            if (isRunning()) {
+                stop();
+                start();
+            }
         }
     }
 
@@ -14,18 +14,21 @@ package org.openhab.binding.synologysurveillancestation.internal.thread;
 
 import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
-import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.thing.Channel;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.openhab.binding.synologysurveillancestation.handler.SynoCameraHandler;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
-import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
-import org.openhab.binding.synologysurveillancestation.internal.webapi.response.CameraResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiRequest;
 
 /**
- * Thread for getting camera state (enabled, recording)
+ * Thread for refreshing dynamic camera channels (snapshot URI, PTZ presets and patrols)
  *
  * @author Pavion - Initial contribution
  */
@@ -39,65 +42,49 @@ public class SynoApiThreadCamera extends SynoApiThread<SynoCameraHandler> {
 
     @Override
     public boolean isNeeded() {
-        boolean ret = getSynoHandler().isLinked(CHANNEL_ENABLE) || getSynoHandler().isLinked(CHANNEL_RECORD)
-                || getSynoHandler().isLinked(CHANNEL_SNAPSHOT_URI_DYNAMIC);
-        if (getSynoHandler().isPtz()) {
-            ret = ret || getSynoHandler().isLinked(CHANNEL_MOVEPRESET) || getSynoHandler().isLinked(CHANNEL_RUNPATROL);
-        }
-        return ret;
+        return getSynoHandler().isJobNeeded(SynoApiThread.THREAD_CAMERA);
     }
 
     @Override
     public boolean refresh() throws Exception {
-        boolean ret = true;
+        try {
+            return refreshAsync().get();
+        } catch (ExecutionException e) {
+            throw WebApiException.fromFailure(e);
+        }
+    }
 
+    @Override
+    public CompletableFuture<Boolean> refreshAsync() {
         SynoCameraHandler cameraHandler = getSynoHandler();
         String cameraId = cameraHandler.getCameraId();
+        List<CompletableFuture<?>> futures = new ArrayList<>();
 
         if (cameraHandler.isLinked(CHANNEL_SNAPSHOT_URI_DYNAMIC)) {
-            Channel channel = cameraHandler.getThing().getChannel(CHANNEL_SNAPSHOT_URI_DYNAMIC);
-            Thing thing = cameraHandler.getThing();
-            int streamId = Integer.parseInt(thing.getConfiguration().get(STREAM_ID).toString());
-
-            String path = cameraHandler.getSynoWebApiHandler().getApiCamera().getSnapshotUri(cameraId, streamId);
-            path += "&timestamp=" + String.valueOf(System.currentTimeMillis());
-            cameraHandler.updateState(channel.getUID(), new StringType(path));
+            try {
+                Channel channel = cameraHandler.getThing().getChannel(CHANNEL_SNAPSHOT_URI_DYNAMIC);
+                Thing thing = cameraHandler.getThing();
+                int streamId = Integer.parseInt(thing.getConfiguration().get(STREAM_ID).toString());
+
+                String path = cameraHandler.getSynoWebApiHandler().getApiCamera().getSnapshotUri(cameraId, streamId);
+                path += "&timestamp=" + String.valueOf(System.currentTimeMillis());
+                cameraHandler.updateState(channel.getUID(), new StringType(path));
+            } catch (WebApiException e) {
+                return SynoApiRequest.failedFuture(e);
+            }
         }
 
         if (cameraHandler.isPtz()) {
             if (cameraHandler.isLinked(CHANNEL_MOVEPRESET)) {
-                cameraHandler.updatePresets();
+                futures.add(cameraHandler.updatePresets());
             }
             if (cameraHandler.isLinked(CHANNEL_RUNPATROL)) {
-                cameraHandler.updatePatrols();
+                futures.add(cameraHandler.updatePatrols());
             }
         }
 
-        if (cameraHandler.isLinked(CHANNEL_ENABLE) || cameraHandler.isLinked(CHANNEL_RECORD)) {
-            CameraResponse response = cameraHandler.getSynoWebApiHandler().getApiCamera().getInfo(cameraId);
-            if (response.isSuccess()) {
-                if (cameraHandler.isLinked(CHANNEL_ENABLE)) {
-                    Channel channel = cameraHandler.getThing().getChannel(CHANNEL_ENABLE);
-                    cameraHandler.updateState(channel.getUID(),
-                            response.isEnabled(cameraId) ? OnOffType.ON : OnOffType.OFF);
-                }
-                if (cameraHandler.isLinked(CHANNEL_RECORD)) {
-                    Channel channel = cameraHandler.getThing().getChannel(CHANNEL_RECORD);
-                    cameraHandler.updateState(channel.getUID(),
-                            response.isRecording(cameraId) ? OnOffType.ON : OnOffType.OFF);
-                }
-
-                ret &= true;
-
-            } else if (response.getErrorcode() == 105) {
-                throw new WebApiException(WebApiAuthErrorCodes.INSUFFICIENT_USER_PRIVILEGE);
-            } else {
-                ret &= false;
-            }
-        }
-
-        return ret;
-
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()]))
+                .thenApply(v -> true);
     }
 
 }
@@ -14,11 +14,14 @@ package org.openhab.binding.synologysurveillancestation.internal.thread;
 
 import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.openhab.binding.synologysurveillancestation.handler.SynoCameraHandler;
-import org.openhab.binding.synologysurveillancestation.internal.webapi.response.CameraEventResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 
 /**
  * Thread for getting camera state (enabled, recording)
@@ -34,31 +37,42 @@ public class SynoApiThreadCameraEvent extends SynoApiThread<SynoCameraHandler> {
 
     @Override
     public boolean isNeeded() {
-        for (String channel : CHANNEL_MDPARAM) {
-            if (getSynoHandler().isLinked(channel)) {
-                return true;
-            }
-        }
-        return false;
+        return getSynoHandler().isJobNeeded(SynoApiThread.THREAD_CAMERAEVENT);
     }
 
     @Override
     public boolean refresh() throws Exception {
+        try {
+            return refreshAsync().get();
+        } catch (ExecutionException e) {
+            throw WebApiException.fromFailure(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> refreshAsync() {
         SynoCameraHandler cameraHandler = getSynoHandler();
         String cameraId = cameraHandler.getCameraId();
 
-        CameraEventResponse response = cameraHandler.getSynoWebApiHandler().getApiCameraEvent().getMDParam(cameraId);
-        if (!response.isSuccess()) {
-            return false;
-        }
+        return cameraHandler.getSynoWebApiHandler().getApiCameraEvent().getMDParamAsync(cameraId)
+                .thenApply(response -> {
+                    if (!response.isSuccess()) {
+                        return false;
+                    }
 
-        cameraHandler.updateState(CHANNEL_MDPARAM_SOURCE, new StringType(response.getSource()));
-        cameraHandler.updateState(CHANNEL_MDPARAM_SENSITIVITY, new DecimalType(response.getSensitivity().getValue()));
-        cameraHandler.updateState(CHANNEL_MDPARAM_THRESHOLD, new DecimalType(response.getThreshold().getValue()));
-        cameraHandler.updateState(CHANNEL_MDPARAM_OBJECTSIZE, new DecimalType(response.getObjectSize().getValue()));
-        cameraHandler.updateState(CHANNEL_MDPARAM_PERCENTAGE, new DecimalType(response.getPercentage().getValue()));
-        cameraHandler.updateState(CHANNEL_MDPARAM_SHORTLIVE, new DecimalType(response.getShortLiveSecond().getValue()));
+                    cameraHandler.updateState(CHANNEL_MDPARAM_SOURCE, new StringType(response.getSource()));
+                    cameraHandler.updateState(CHANNEL_MDPARAM_SENSITIVITY,
+                            new DecimalType(response.getSensitivity().getValue()));
+                    cameraHandler.updateState(CHANNEL_MDPARAM_THRESHOLD,
+                            new DecimalType(response.getThreshold().getValue()));
+                    cameraHandler.updateState(CHANNEL_MDPARAM_OBJECTSIZE,
+                            new DecimalType(response.getObjectSize().getValue()));
+                    cameraHandler.updateState(CHANNEL_MDPARAM_PERCENTAGE,
+                            new DecimalType(response.getPercentage().getValue()));
+                    cameraHandler.updateState(CHANNEL_MDPARAM_SHORTLIVE,
+                            new DecimalType(response.getShortLiveSecond().getValue()));
 
-        return true;
+                    return true;
+                });
     }
 }
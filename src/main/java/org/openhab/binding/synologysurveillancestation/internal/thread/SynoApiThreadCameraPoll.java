@@ -0,0 +1,269 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.thread;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.thing.Thing;
+import org.eclipse.smarthome.core.thing.ThingStatus;
+import org.openhab.binding.synologysurveillancestation.handler.SynoBridgeHandler;
+import org.openhab.binding.synologysurveillancestation.handler.SynoCameraHandler;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiCamera;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiCompound;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiEvent;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SynoApiResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Thread for polling state (enabled, recording) and events of all cameras of a station with a single compound
+ * request. A failed poll sets the affected cameras offline, not the bridge.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SynoApiThreadCameraPoll extends SynoApiThread<SynoBridgeHandler> {
+    private final Logger logger = LoggerFactory.getLogger(SynoApiThreadCameraPoll.class);
+
+    // Maximum difference in seconds between the query start times of cameras sharing an event query
+    private static final int EVENT_QUERY_SPREAD = 60;
+
+    public SynoApiThreadCameraPoll(SynoBridgeHandler handler, int refreshRate) {
+        super(SynoApiThread.THREAD_CAMERAPOLL, handler, refreshRate);
+    }
+
+    @Override
+    public boolean isNeeded() {
+        return !getStatusHandlers().isEmpty() || !getEventThreads().isEmpty();
+    }
+
+    @Override
+    public boolean refresh() throws Exception {
+        try {
+            return refreshAsync().get();
+        } catch (ExecutionException e) {
+            throw WebApiException.fromFailure(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> refreshAsync() {
+        Set<SynoCameraHandler> polled = ConcurrentHashMap.newKeySet();
+        Map<SynoCameraHandler, String> failures = new ConcurrentHashMap<>();
+        SynoApiCompound.Builder compound = getSynoHandler().getSynoWebApiHandler().getApiCompound().newRequest();
+        CompletableFuture<Void> status = refreshStatus(compound, polled, failures);
+        CompletableFuture<Void> events = refreshEvents(compound, polled, failures);
+        compound.send();
+
+        // Failures are reported to the affected cameras, the bridge status follows Home Mode and the session
+        return CompletableFuture.allOf(status, events).handle((result, failure) -> {
+            if (failure != null) {
+                logger.debug("Camera poll failed: {}", WebApiException.fromFailure(failure).getMessage());
+            }
+            for (SynoCameraHandler cameraHandler : polled) {
+                String reason = failures.get(cameraHandler);
+                if (reason != null) {
+                    cameraHandler.pollFailed(reason);
+                } else {
+                    cameraHandler.pollSucceeded();
+                }
+            }
+            return true;
+        });
+    }
+
+    @Override
+    protected boolean isStatusSource() {
+        return false;
+    }
+
+    /**
+     * Polls the state (enabled, recording) of all cameras with a single call
+     *
+     * @param compound compound request to add the call to
+     * @param polled collects the polled cameras
+     * @param failures collects the failure reason per camera
+     */
+    private CompletableFuture<Void> refreshStatus(SynoApiCompound.Builder compound, Set<SynoCameraHandler> polled,
+            Map<SynoCameraHandler, String> failures) {
+        List<SynoCameraHandler> cameraHandlers = getStatusHandlers();
+        if (cameraHandlers.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<String> cameraIds = new ArrayList<>();
+        for (SynoCameraHandler cameraHandler : cameraHandlers) {
+            cameraIds.add(cameraHandler.getCameraId());
+        }
+        polled.addAll(cameraHandlers);
+
+        SynoApiCamera apiCamera = getSynoHandler().getSynoWebApiHandler().getApiCamera();
+        // Only the state is polled, so stream details are left out of the response
+        return compound.add(apiCamera.getInfoCall(cameraIds, false)).handle((response, failure) -> {
+            String reason = getFailureReason(response, failure);
+            for (SynoCameraHandler cameraHandler : cameraHandlers) {
+                if (reason != null) {
+                    failures.put(cameraHandler, "Camera info: " + reason);
+                } else if (response.getCamera(cameraHandler.getCameraId()) == null) {
+                    failures.put(cameraHandler, "Camera missing in camera info response");
+                } else {
+                    cameraHandler.updateCameraStatus(response);
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Polls the events of all cameras due according to their adaptive interval and routes them to the cameras.
+     * Cameras with close query start times share a query, so a camera lagging behind (e.g. waiting for an event to
+     * complete) is queried on its own instead of making the others list events they have already seen. All queries
+     * are sent with the same compound request.
+     *
+     * @param compound compound request to add the calls to
+     * @param polled collects the polled cameras
+     * @param failures collects the failure reason per camera
+     */
+    private CompletableFuture<Void> refreshEvents(SynoApiCompound.Builder compound, Set<SynoCameraHandler> polled,
+            Map<SynoCameraHandler, String> failures) {
+        List<SynoApiThreadEvent> eventThreads = new ArrayList<>();
+        for (SynoApiThreadEvent eventThread : getEventThreads()) {
+            if (eventThread.isPollDue()) {
+                eventThreads.add(eventThread);
+            }
+        }
+        eventThreads.sort(Comparator.comparingLong(SynoApiThreadEvent::getLastEventTime));
+
+        List<CompletableFuture<Void>> queries = new ArrayList<>();
+        int first = 0;
+        while (first < eventThreads.size()) {
+            long fromTime = eventThreads.get(first).getLastEventTime();
+            int end = first + 1;
+            while (end < eventThreads.size()
+                    && eventThreads.get(end).getLastEventTime() - fromTime <= EVENT_QUERY_SPREAD) {
+                end++;
+            }
+            queries.add(refreshEvents(compound, eventThreads.subList(first, end), fromTime, polled, failures));
+            first = end;
+        }
+        return CompletableFuture.allOf(queries.toArray(new CompletableFuture<?>[queries.size()]));
+    }
+
+    /**
+     * Polls the events of some cameras with a single query
+     *
+     * @param compound compound request to add the call to
+     * @param eventThreads event states of the cameras
+     * @param fromTime start time of the query, the earliest of the cameras
+     * @param polled collects the polled cameras
+     * @param failures collects the failure reason per camera
+     */
+    private CompletableFuture<Void> refreshEvents(SynoApiCompound.Builder compound,
+            List<SynoApiThreadEvent> eventThreads, long fromTime, Set<SynoCameraHandler> polled,
+            Map<SynoCameraHandler, String> failures) {
+        List<String> cameraIds = new ArrayList<>();
+        Set<Integer> reasons = new TreeSet<>();
+        for (SynoApiThreadEvent eventThread : eventThreads) {
+            cameraIds.add(eventThread.getSynoHandler().getCameraId());
+            reasons.addAll(eventThread.getReasons());
+        }
+
+        SynoApiEvent apiEvent = getSynoHandler().getSynoWebApiHandler().getApiEvent();
+        return compound.add(apiEvent.getEventCall(cameraIds, fromTime, reasons))
+                .thenCompose(firstPage -> firstPage.isSuccess()
+                        ? apiEvent.getNextPagesAsync(cameraIds, fromTime, reasons, firstPage)
+                        : CompletableFuture.completedFuture(firstPage))
+                .handle((response, failure) -> {
+                    String reason = getFailureReason(response, failure);
+                    for (SynoApiThreadEvent eventThread : eventThreads) {
+                        SynoCameraHandler cameraHandler = eventThread.getSynoHandler();
+                        polled.add(cameraHandler);
+                        if (reason != null) {
+                            failures.put(cameraHandler, "Events: " + reason);
+                        } else {
+                            eventThread.processEvents(response);
+                        }
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * @return description of a failed call or null if successful
+     */
+    private static @Nullable String getFailureReason(@Nullable SynoApiResponse response, @Nullable Throwable failure) {
+        if (failure != null) {
+            return WebApiException.fromFailure(failure).getMessage();
+        } else if (response == null) {
+            return "No response";
+        } else if (!response.isSuccess()) {
+            return WebApiAuthErrorCodes.getByCode(response.getErrorcode()).toString();
+        }
+        return null;
+    }
+
+    /**
+     * @return handlers of all online cameras and of cameras set offline by a failed poll
+     */
+    private List<SynoCameraHandler> getCameraHandlers() {
+        List<SynoCameraHandler> cameraHandlers = new ArrayList<>();
+        for (Thing thing : getSynoHandler().getThing().getThings()) {
+            if (thing.getHandler() instanceof SynoCameraHandler) {
+                SynoCameraHandler cameraHandler = (SynoCameraHandler) thing.getHandler();
+                if (thing.getStatus() == ThingStatus.ONLINE || cameraHandler.isPollOffline()) {
+                    cameraHandlers.add(cameraHandler);
+                }
+            }
+        }
+        return cameraHandlers;
+    }
+
+    /**
+     * @return handlers of all online cameras needing their state according to their poll planner
+     */
+    private List<SynoCameraHandler> getStatusHandlers() {
+        List<SynoCameraHandler> cameraHandlers = new ArrayList<>();
+        for (SynoCameraHandler cameraHandler : getCameraHandlers()) {
+            if (cameraHandler.isJobNeeded(SynoPollPlanner.JOB_STATUS)) {
+                cameraHandlers.add(cameraHandler);
+            }
+        }
+        return cameraHandlers;
+    }
+
+    /**
+     * @return event states of all online cameras needing events according to their poll planner
+     */
+    private List<SynoApiThreadEvent> getEventThreads() {
+        List<SynoApiThreadEvent> eventThreads = new ArrayList<>();
+        for (SynoCameraHandler cameraHandler : getCameraHandlers()) {
+            if (cameraHandler.isJobNeeded(SynoApiThread.THREAD_EVENT)) {
+                eventThreads.add(cameraHandler.getEventThread());
+            }
+        }
+        return eventThreads;
+    }
+
+}
@@ -15,21 +15,33 @@ package org.openhab.binding.synologysurveillancestation.internal.thread;
 import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.*;
 
 import java.time.ZonedDateTime;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.thing.Channel;
-import org.eclipse.smarthome.core.thing.Thing;
 import org.openhab.binding.synologysurveillancestation.handler.SynoCameraHandler;
+import org.openhab.binding.synologysurveillancestation.internal.journal.SynoEventJournal;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoEvent;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoEventCursor;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoEventIdSet;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.EventResponse;
 
 /**
- * Thread for getting camera events (motion, alarm)
+ * Event state of a camera (motion, alarm). Events of all cameras are polled by the bridge with a single query,
+ * see {@link SynoApiThreadCameraPoll}, this thread only refreshes on demand.
  *
  * @author Pavion - Initial contribution
  */
@@ -37,12 +49,34 @@ import org.openhab.binding.synologysurveillancestation.internal.webapi.response.
 public class SynoApiThreadEvent extends SynoApiThread<SynoCameraHandler> {
     // private final Logger logger = LoggerFactory.getLogger(SynoApiThreadEvent.class);
 
-    private long lastEventTime;
+    // Time in seconds the minimum poll interval is kept after the last activity
+    private static final int ACTIVE_HOLD = 60;
+    // Tolerance in milliseconds for a poll to be due, as the bridge polls at its own rate
+    private static final int DUE_TOLERANCE = 500;
+    // Poll interval in seconds while events of the camera are pushed by webhook, polls only reconcile the state
+    public static final int RECONCILE_INTERVAL = 60;
+    // Time in seconds after the last push of the camera during which pushes are considered to be arriving
+    private static final int PUSH_ACTIVE_WINDOW = 5 * RECONCILE_INTERVAL;
+
+    private final SynoEventCursor cursor;
+    // Running and completed events already published on the event stream
+    private final SynoEventIdSet startedEvents = new SynoEventIdSet(SynoEventCursor.CAPACITY);
+    private final SynoEventIdSet publishedEvents = new SynoEventIdSet(SynoEventCursor.CAPACITY);
     private Map<String, SynoEvent> events = new HashMap<>();
 
+    // Adaptive poll interval in seconds, fixed if the maximum does not exceed the minimum
+    private volatile int minInterval = 0;
+    private volatile int maxInterval = 0;
+    private volatile int interval = 0;
+    private volatile long nextPoll = System.nanoTime();
+    private volatile long lastActivity = System.nanoTime();
+    private volatile long lastPoll = System.nanoTime();
+    private volatile long lastPush;
+    private volatile boolean pushReceived = false;
+
     public SynoApiThreadEvent(SynoCameraHandler handler, int refreshRate) {
         super(SynoApiThread.THREAD_EVENT, handler, refreshRate);
-        lastEventTime = ZonedDateTime.now().minusSeconds(refreshRate * 2).toEpochSecond();
+        cursor = new SynoEventCursor(ZonedDateTime.now().minusSeconds(refreshRate * 2).toEpochSecond());
         events.put(CHANNEL_EVENT_MOTION, new SynoEvent(SynoEvent.EVENT_REASON_MOTION));
         events.put(CHANNEL_EVENT_ALARM, new SynoEvent(SynoEvent.EVENT_REASON_ALARM));
         events.put(CHANNEL_EVENT_MANUAL, new SynoEvent(SynoEvent.EVENT_REASON_MANUAL));
@@ -51,53 +85,243 @@ public class SynoApiThreadEvent extends SynoApiThread<SynoCameraHandler> {
         events.put(CHANNEL_EVENT_ACTIONRULE, new SynoEvent(SynoEvent.EVENT_REASON_ACTIONRULE));
     }
 
+    /**
+     * Events are polled by the bridge, no own refresh job
+     */
+    @Override
+    public void start() {
+    }
+
     @Override
     public boolean isNeeded() {
-        return (getSynoHandler().isLinked(CHANNEL_EVENT_MOTION) || getSynoHandler().isLinked(CHANNEL_EVENT_ALARM)
-                || getSynoHandler().isLinked(CHANNEL_EVENT_MANUAL) || getSynoHandler().isLinked(CHANNEL_EVENT_CONTINUOUS) 
-                || getSynoHandler().isLinked(CHANNEL_EVENT_EXTERNAL) || getSynoHandler().isLinked(CHANNEL_EVENT_ACTIONRULE));
+        return getSynoHandler().isJobNeeded(SynoApiThread.THREAD_EVENT);
     }
 
     @Override
     public boolean refresh() throws Exception {
+        try {
+            return refreshAsync().get();
+        } catch (ExecutionException e) {
+            throw WebApiException.fromFailure(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> refreshAsync() {
         SynoCameraHandler cameraHandler = getSynoHandler();
-        Thing thing = cameraHandler.getThing();
-
-        EventResponse response = cameraHandler.getSynoWebApiHandler().getApiEvent()
-                .getEventResponse(cameraHandler.getCameraId(), lastEventTime, events);
-        if (response.isSuccess()) {
-            for (String eventType : events.keySet()) {
-                if (getSynoHandler().isLinked(eventType)) {
-                    SynoEvent event = events.get(eventType);
-                    Channel channel = cameraHandler.getThing().getChannel(eventType);
-                    if (response.hasEvent(event.getReason())) {
-                        SynoEvent responseEvent = response.getEvent(event.getReason());
-                        if (responseEvent.getEventId() != event.getEventId()) {
-                            event.setEventId(responseEvent.getEventId());
-                            event.setEventCompleted(responseEvent.isEventCompleted());
-                            cameraHandler.updateState(channel.getUID(), OnOffType.ON);
-                            if (responseEvent.isEventCompleted()) {
-                                cameraHandler.updateState(channel.getUID(), OnOffType.OFF);
-                            }
-                        } else if (responseEvent.getEventId() == event.getEventId() && responseEvent.isEventCompleted()
-                                && !event.isEventCompleted()) {
-                            event.setEventCompleted(true);
+
+        return cameraHandler.getSynoWebApiHandler().getApiEvent()
+                .getEventResponseAsync(Collections.singleton(cameraHandler.getCameraId()), cursor.getFromTime(),
+                        getReasons())
+                .thenApply(response -> {
+                    if (response.isSuccess()) {
+                        processEvents(response);
+                        return true;
+                    } else if (response.getErrorcode() == 105) {
+                        throw new CompletionException(
+                                new WebApiException(WebApiAuthErrorCodes.INSUFFICIENT_USER_PRIVILEGE));
+                    } else {
+                        return false;
+                    }
+                });
+    }
+
+    /**
+     * Updates the event channels from a successful response
+     *
+     * @param response event list response, possibly containing events of several cameras
+     */
+    public synchronized void processEvents(EventResponse response) {
+        SynoCameraHandler cameraHandler = getSynoHandler();
+        List<SynoEvent> cameraEvents = response.getEvents(cameraHandler.getCameraId());
+        if (cameraHandler.isEventStreamEnabled()) {
+            publishEvents(cameraEvents);
+        }
+        boolean active = false;
+        for (SynoEvent event : cameraEvents) {
+            if (!event.isEventCompleted() || !isProcessed(event)) {
+                active = true;
+                break;
+            }
+        }
+        SynoEventJournal journal = cameraHandler.getEventJournal();
+        if (journal != null) {
+            for (int i = cameraEvents.size() - 1; i >= 0; i--) {
+                SynoEvent event = cameraEvents.get(i);
+                if (!isProcessed(event)) {
+                    journal.record(cameraHandler.getCameraId(), event);
+                }
+            }
+        }
+        for (String eventType : events.keySet()) {
+            if (getSynoHandler().isLinked(eventType)) {
+                SynoEvent event = events.get(eventType);
+                Channel channel = cameraHandler.getThing().getChannel(eventType);
+                SynoEvent responseEvent = getPendingEvent(cameraEvents, event.getReason());
+                if (responseEvent != null) {
+                    if (responseEvent.getEventId() != event.getEventId()) {
+                        event.setEventId(responseEvent.getEventId());
+                        event.setEventCompleted(responseEvent.isEventCompleted());
+                        cameraHandler.updateState(channel.getUID(), OnOffType.ON);
+                        if (responseEvent.isEventCompleted()) {
                             cameraHandler.updateState(channel.getUID(), OnOffType.OFF);
                         }
-                    } else {
+                    } else if (responseEvent.getEventId() == event.getEventId() && responseEvent.isEventCompleted()
+                            && !event.isEventCompleted()) {
                         event.setEventCompleted(true);
                         cameraHandler.updateState(channel.getUID(), OnOffType.OFF);
                     }
+                } else {
+                    event.setEventCompleted(true);
+                    cameraHandler.updateState(channel.getUID(), OnOffType.OFF);
                 }
             }
+        }
+
+        cursor.advance(cameraEvents, response.getTimestamp());
+        scheduleNextPoll(active);
+    }
 
-            lastEventTime = response.getTimestamp();
-            return true;
-        } else if (response.getErrorcode() == 105) {
-            throw new WebApiException(WebApiAuthErrorCodes.INSUFFICIENT_USER_PRIVILEGE);
+    /**
+     * Sets the interval of the next poll. While events are running or have just happened, the minimum interval is
+     * used, otherwise the interval is doubled with each quiet poll up to the maximum.
+     *
+     * @param active if the last poll has seen new or running events
+     */
+    private void scheduleNextPoll(boolean active) {
+        long now = System.nanoTime();
+        lastPoll = now;
+        if (active) {
+            lastActivity = now;
+        }
+        if (maxInterval <= minInterval || now - lastActivity < TimeUnit.SECONDS.toNanos(ACTIVE_HOLD)) {
+            interval = minInterval;
         } else {
+            interval = Math.min(maxInterval, Math.max(1, interval) * 2);
+        }
+        nextPoll = now + TimeUnit.SECONDS.toNanos(interval);
+    }
+
+    /**
+     * Sets the poll intervals, events are polled adaptively if the maximum exceeds the minimum
+     *
+     * @param minInterval minimum interval in seconds, 0 to poll with every poll of the bridge
+     * @param maxInterval maximum interval in seconds when no events happen
+     */
+    public void setPollIntervals(int minInterval, int maxInterval) {
+        this.minInterval = Math.max(0, minInterval);
+        this.maxInterval = Math.max(0, maxInterval);
+        interval = this.minInterval;
+        nextPoll = System.nanoTime();
+    }
+
+    /**
+     * @return if the events of this camera are to be included in the next poll of the bridge, only every
+     *         {@link #RECONCILE_INTERVAL} seconds while pushes of the camera arrive
+     */
+    public boolean isPollDue() {
+        long now = System.nanoTime();
+        if (isPushActive() && now - lastPoll < TimeUnit.SECONDS.toNanos(RECONCILE_INTERVAL)) {
             return false;
         }
+        return now - nextPoll >= -TimeUnit.MILLISECONDS.toNanos(DUE_TOLERANCE);
+    }
+
+    /**
+     * @return if webhook pushes of this camera are arriving, so its events only need to be polled for reconciliation
+     */
+    public boolean isPushActive() {
+        return pushReceived && System.nanoTime() - lastPush < TimeUnit.SECONDS.toNanos(PUSH_ACTIVE_WINDOW);
+    }
+
+    /**
+     * @return current poll interval in seconds
+     */
+    public int getPollInterval() {
+        return interval;
+    }
+
+    /**
+     * Publishes new and changed events on the event stream trigger channel, oldest first. A running event is
+     * published once when started and once more when completed.
+     *
+     * @param cameraEvents events of the camera, newest first
+     */
+    private void publishEvents(List<SynoEvent> cameraEvents) {
+        for (int i = cameraEvents.size() - 1; i >= 0; i--) {
+            SynoEvent event = cameraEvents.get(i);
+            SynoEventIdSet published = event.isEventCompleted() ? publishedEvents : startedEvents;
+            if (isProcessed(event) || !published.add(event.getEventId())) {
+                continue;
+            }
+            getSynoHandler().triggerChannel(CHANNEL_EVENT_STREAM, event.toJson());
+        }
+    }
+
+    /**
+     * @param cameraEvents events of the camera, newest first
+     * @param reason event reason
+     * @return the newest event with the reason not processed yet
+     */
+    private @Nullable SynoEvent getPendingEvent(List<SynoEvent> cameraEvents, int reason) {
+        for (SynoEvent event : cameraEvents) {
+            if (event.getReason() == reason && !isProcessed(event)) {
+                return event;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return if the event was already seen as completed
+     */
+    private boolean isProcessed(SynoEvent event) {
+        return cursor.isProcessed(event);
+    }
+
+    /**
+     * Updates an event channel from a pushed event. An event switched on is switched off by a push or by the next
+     * poll once Surveillance Station reports it as completed.
+     *
+     * @param eventType event channel id
+     * @param on if the event started or ended
+     * @return false if the event type is unknown
+     */
+    public synchronized boolean pushEvent(String eventType, boolean on) {
+        SynoEvent event = events.get(eventType);
+        Channel channel = getSynoHandler().getThing().getChannel(eventType);
+        if (event == null || channel == null) {
+            return false;
+        }
+        event.setEventCompleted(!on);
+        lastActivity = System.nanoTime();
+        lastPush = lastActivity;
+        pushReceived = true;
+        interval = minInterval;
+        nextPoll = lastActivity;
+        getSynoHandler().updateState(channel.getUID(), on ? OnOffType.ON : OnOffType.OFF);
+        return true;
+    }
+
+    /**
+     * @return the start time for the next event query
+     */
+    public long getLastEventTime() {
+        return cursor.getFromTime();
+    }
+
+    /**
+     * @return reasons of the linked event channels, all reasons if the event stream is enabled
+     */
+    public Set<Integer> getReasons() {
+        boolean all = getSynoHandler().isEventStreamEnabled();
+        Set<Integer> reasons = new HashSet<>();
+        for (Map.Entry<String, SynoEvent> event : events.entrySet()) {
+            if (all || getSynoHandler().isLinked(event.getKey())) {
+                reasons.add(event.getValue().getReason());
+            }
+        }
+        return reasons;
     }
 
     /**
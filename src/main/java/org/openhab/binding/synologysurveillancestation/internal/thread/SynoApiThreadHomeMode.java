@@ -14,13 +14,16 @@ package org.openhab.binding.synologysurveillancestation.internal.thread;
 
 import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.CHANNEL_HOMEMODE;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.thing.Channel;
 import org.openhab.binding.synologysurveillancestation.handler.SynoBridgeHandler;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
-import org.openhab.binding.synologysurveillancestation.internal.webapi.response.HomeModeResponse;
 
 /**
  * Thread for getting Surveillance Station Home Mode state
@@ -42,19 +45,29 @@ public class SynoApiThreadHomeMode extends SynoApiThread<SynoBridgeHandler> {
 
     @Override
     public boolean refresh() throws Exception {
+        try {
+            return refreshAsync().get();
+        } catch (ExecutionException e) {
+            throw WebApiException.fromFailure(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> refreshAsync() {
         SynoBridgeHandler bridgeHandler = getSynoHandler();
-        HomeModeResponse response = bridgeHandler.getSynoWebApiHandler().getApiHomeMode().getHomeModeResponse();
-        if (response.isSuccess()) {
-            if (getSynoHandler().isLinked(CHANNEL_HOMEMODE)) {
-                Channel channel = getSynoHandler().getThing().getChannel(CHANNEL_HOMEMODE);
-                getSynoHandler().updateState(channel.getUID(), response.isHomeMode() ? OnOffType.ON : OnOffType.OFF);
+        return bridgeHandler.getSynoWebApiHandler().getApiHomeMode().getHomeModeResponseAsync().thenApply(response -> {
+            if (response.isSuccess()) {
+                if (bridgeHandler.isLinked(CHANNEL_HOMEMODE)) {
+                    Channel channel = bridgeHandler.getThing().getChannel(CHANNEL_HOMEMODE);
+                    bridgeHandler.updateState(channel.getUID(), response.isHomeMode() ? OnOffType.ON : OnOffType.OFF);
+                }
+                return true;
+            } else if (response.getErrorcode() == 119) {
+                throw new CompletionException(new WebApiException(WebApiAuthErrorCodes.INSUFFICIENT_USER_PRIVILEGE));
+            } else {
+                return false;
             }
-            return true;
-        } else if (response.getErrorcode() == 119) {
-            throw new WebApiException(WebApiAuthErrorCodes.INSUFFICIENT_USER_PRIVILEGE);
-        } else {
-            return false;
-        }
+        });
     }
 
 }
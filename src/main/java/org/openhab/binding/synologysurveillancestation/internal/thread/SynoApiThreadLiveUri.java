@@ -14,16 +14,19 @@ package org.openhab.binding.synologysurveillancestation.internal.thread;
 
 import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.thing.Channel;
 import org.openhab.binding.synologysurveillancestation.handler.SynoCameraHandler;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
-import org.openhab.binding.synologysurveillancestation.internal.webapi.response.LiveUriResponse;
 
 /**
- * Thread for refreshing live URIs (RTSP or MJPEG over HTTP)
+ * Thread for refreshing live URIs (RTSP or MJPEG over HTTP), served from the station's live URI cache
  *
  * @author Pavion - Initial contribution
  */
@@ -37,37 +40,46 @@ public class SynoApiThreadLiveUri extends SynoApiThread<SynoCameraHandler> {
 
     @Override
     public boolean isNeeded() {
-        return (getSynoHandler().isLinked(CHANNEL_LIVE_URI_RTSP)
-                || getSynoHandler().isLinked(CHANNEL_LIVE_URI_MJPEG_HTTP));
+        return getSynoHandler().isJobNeeded(SynoApiThread.THREAD_LIVEURI);
     }
 
     @Override
     public boolean refresh() throws Exception {
+        try {
+            return refreshAsync().get();
+        } catch (ExecutionException e) {
+            throw WebApiException.fromFailure(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> refreshAsync() {
         SynoCameraHandler cameraHandler = getSynoHandler();
         String cameraId = cameraHandler.getCameraId();
 
-        LiveUriResponse response = cameraHandler.getSynoWebApiHandler().getApiLiveUri().getLiveUriResponse(cameraId);
-
-        if (response.isSuccess()) {
-            if (cameraHandler.isLinked(CHANNEL_LIVE_URI_RTSP)) {
-                Channel channel = cameraHandler.getThing().getChannel(CHANNEL_LIVE_URI_RTSP);
-                String uri = response.getRtsp();
-                cameraHandler.updateState(channel.getUID(), new StringType(uri));
-            }
+        return cameraHandler.getSynoWebApiHandler().getApiLiveUri().getCachedLiveUriResponseAsync(cameraId)
+                .thenApply(response -> {
+                    if (response.isSuccess()) {
+                        if (cameraHandler.isLinked(CHANNEL_LIVE_URI_RTSP)) {
+                            Channel channel = cameraHandler.getThing().getChannel(CHANNEL_LIVE_URI_RTSP);
+                            String uri = response.getRtsp(cameraId);
+                            cameraHandler.updateState(channel.getUID(), new StringType(uri));
+                        }
 
-            if (cameraHandler.isLinked(CHANNEL_LIVE_URI_MJPEG_HTTP)) {
-                Channel channel = cameraHandler.getThing().getChannel(CHANNEL_LIVE_URI_MJPEG_HTTP);
-                String uri = response.getMjpegHttp();
-                cameraHandler.updateState(channel.getUID(), new StringType(uri));
-            }
-
-            return true;
-        } else if (response.getErrorcode() == 105) {
-            throw new WebApiException(WebApiAuthErrorCodes.INSUFFICIENT_USER_PRIVILEGE);
-        }
+                        if (cameraHandler.isLinked(CHANNEL_LIVE_URI_MJPEG_HTTP)) {
+                            Channel channel = cameraHandler.getThing().getChannel(CHANNEL_LIVE_URI_MJPEG_HTTP);
+                            String uri = response.getMjpegHttp(cameraId);
+                            cameraHandler.updateState(channel.getUID(), new StringType(uri));
+                        }
 
-        return false;
+                        return true;
+                    } else if (response.getErrorcode() == 105) {
+                        throw new CompletionException(
+                                new WebApiException(WebApiAuthErrorCodes.INSUFFICIENT_USER_PRIVILEGE));
+                    }
 
+                    return false;
+                });
     }
 
 }
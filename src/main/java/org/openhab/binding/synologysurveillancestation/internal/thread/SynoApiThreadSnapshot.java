@@ -14,12 +14,17 @@ package org.openhab.binding.synologysurveillancestation.internal.thread;
 
 import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.smarthome.core.library.types.RawType;
 import org.eclipse.smarthome.core.thing.Channel;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.types.UnDefType;
 import org.openhab.binding.synologysurveillancestation.handler.SynoCameraHandler;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiRequest;
 
 /**
  * Thread for getting snapshots
@@ -36,7 +41,26 @@ public class SynoApiThreadSnapshot extends SynoApiThread<SynoCameraHandler> {
 
     @Override
     public boolean isNeeded() {
-        return (getSynoHandler().isLinked(CHANNEL_SNAPSHOT));
+        return getSynoHandler().isJobNeeded(SynoApiThread.THREAD_SNAPSHOT);
+    }
+
+    /**
+     * Downloads the snapshot on the scheduler of the camera, so neither the framework thread handling a REFRESH nor
+     * the refresh job is blocked by the download
+     */
+    @Override
+    public CompletableFuture<Boolean> refreshAsync() {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return refresh();
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, getSynoHandler().getScheduler());
+        } catch (RejectedExecutionException e) {
+            return SynoApiRequest.failedFuture(e);
+        }
     }
 
     @Override
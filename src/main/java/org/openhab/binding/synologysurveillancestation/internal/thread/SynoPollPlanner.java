@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.thread;
+
+import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link SynoPollPlanner} keeps the linked channels of a camera and derives the refresh jobs needed to serve
+ * them, so only API calls for linked channels are scheduled. Events ({@link SynoApiThread#THREAD_EVENT}) and state
+ * ({@link #JOB_STATUS}) of all cameras are polled by the bridge, which asks the planner of each camera whether to
+ * include it.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SynoPollPlanner {
+
+    // Camera state (enabled, recording), polled by the bridge
+    public static final String JOB_STATUS = "Status";
+
+    // Channels served by each refresh job
+    private static final Map<String, Set<String>> JOB_CHANNELS = new HashMap<>();
+    static {
+        JOB_CHANNELS.put(SynoApiThread.THREAD_SNAPSHOT, Collections.singleton(CHANNEL_SNAPSHOT));
+        JOB_CHANNELS.put(SynoApiThread.THREAD_EVENT, CHANNEL_EVENT);
+        JOB_CHANNELS.put(JOB_STATUS,
+                Collections.unmodifiableSet(new HashSet<>(Arrays.asList(CHANNEL_ENABLE, CHANNEL_RECORD))));
+        JOB_CHANNELS.put(SynoApiThread.THREAD_CAMERA, Collections.singleton(CHANNEL_SNAPSHOT_URI_DYNAMIC));
+        JOB_CHANNELS.put(SynoApiThread.THREAD_LIVEURI, Collections.unmodifiableSet(
+                new HashSet<>(Arrays.asList(CHANNEL_LIVE_URI_RTSP, CHANNEL_LIVE_URI_MJPEG_HTTP))));
+        JOB_CHANNELS.put(SynoApiThread.THREAD_CAMERAEVENT, CHANNEL_MDPARAM);
+    }
+    // Channels additionally served by each refresh job if the camera supports PTZ
+    private static final Map<String, Set<String>> PTZ_JOB_CHANNELS = Collections.singletonMap(
+            SynoApiThread.THREAD_CAMERA,
+            Collections.unmodifiableSet(new HashSet<>(Arrays.asList(CHANNEL_MOVEPRESET, CHANNEL_RUNPATROL))));
+
+    private final Set<String> linkedChannels = ConcurrentHashMap.newKeySet();
+    private volatile boolean ptz = false;
+    private volatile boolean eventStream = false;
+
+    /**
+     * @param ptz if the camera supports PTZ, so its preset and patrol lists are refreshed
+     * @return if the set of needed jobs has changed
+     */
+    public boolean setPtz(boolean ptz) {
+        Set<String> before = getJobs();
+        this.ptz = ptz;
+        return !before.equals(getJobs());
+    }
+
+    /**
+     * @param eventStream if all events are published on the event stream, so events are needed without links
+     * @return if the set of needed jobs has changed
+     */
+    public boolean setEventStream(boolean eventStream) {
+        Set<String> before = getJobs();
+        this.eventStream = eventStream;
+        return !before.equals(getJobs());
+    }
+
+    /**
+     * Replaces the linked channels
+     *
+     * @param channelIds ids of all linked channels
+     */
+    public void setLinked(Collection<String> channelIds) {
+        linkedChannels.retainAll(channelIds);
+        linkedChannels.addAll(channelIds);
+    }
+
+    /**
+     * @param channelId channel id
+     * @param linked if the channel is linked or unlinked
+     * @return if the set of needed jobs has changed
+     */
+    public boolean setLinked(String channelId, boolean linked) {
+        Set<String> before = getJobs();
+        if (linked) {
+            linkedChannels.add(channelId);
+        } else {
+            linkedChannels.remove(channelId);
+        }
+        return !before.equals(getJobs());
+    }
+
+    /**
+     * @return if the channel is linked
+     */
+    public boolean isLinked(String channelId) {
+        return linkedChannels.contains(channelId);
+    }
+
+    /**
+     * @param job refresh job (thread type or {@link #JOB_STATUS})
+     * @return if the job serves at least one linked channel
+     */
+    public boolean isNeeded(String job) {
+        if (eventStream && SynoApiThread.THREAD_EVENT.equals(job)) {
+            return true;
+        }
+        return isAnyLinked(JOB_CHANNELS.get(job)) || (ptz && isAnyLinked(PTZ_JOB_CHANNELS.get(job)));
+    }
+
+    private boolean isAnyLinked(@Nullable Set<String> channels) {
+        if (channels != null) {
+            for (String channel : channels) {
+                if (linkedChannels.contains(channel)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the refresh jobs needed to serve the linked channels
+     */
+    public Set<String> getJobs() {
+        Set<String> jobs = new HashSet<>();
+        for (String job : JOB_CHANNELS.keySet()) {
+            if (isNeeded(job)) {
+                jobs.add(job);
+            }
+        }
+        return jobs;
+    }
+
+    @Override
+    public String toString() {
+        return getJobs().toString();
+    }
+
+}
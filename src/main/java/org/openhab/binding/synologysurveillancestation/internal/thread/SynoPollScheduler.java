@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.thread;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link SynoPollScheduler} drives the refresh jobs of a station and all its cameras with a hashed timing wheel
+ * on a single ticker. Jobs with the same period are spread evenly across the period and every run gets a small
+ * jitter, so cameras do not poll the station in the same moment.
+ *
+ * Jobs run at a fixed rate, the jitter does not accumulate. Due jobs are handed over to the executor, the ticker
+ * itself never blocks.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SynoPollScheduler {
+
+    // Tick duration in milliseconds
+    private static final int TICK_MILLIS = 100;
+    // Number of wheel slots, a power of 2 (51.2 seconds per round)
+    private static final int WHEEL_SIZE = 512;
+    // Maximum jitter in ticks, limited to a tenth of the period
+    private static final int MAX_JITTER = 5;
+    // Golden ratio conjugate for low-discrepancy phases
+    private static final double PHASE_STEP = 0.6180339887498949;
+
+    private final ScheduledExecutorService executor;
+    private final List<List<Job>> wheel = new ArrayList<>(WHEEL_SIZE);
+    // Number of jobs scheduled so far per period, used for the phase of the next one
+    private final Map<Integer, Integer> phases = new HashMap<>();
+    private @Nullable ScheduledFuture<?> ticker;
+    private long startNanos;
+    private long tick;
+    private int jobCount;
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder lagMillis = new LongAdder();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+
+    /**
+     * @param executor executor for the ticker and the jobs
+     */
+    public SynoPollScheduler(ScheduledExecutorService executor) {
+        this.executor = executor;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Schedules a periodic job, its first run is placed at the next free phase of its period
+     *
+     * @param task task to run
+     * @param period period in seconds
+     * @return the job
+     */
+    public synchronized Job schedule(Runnable task, int period) {
+        int periodTicks = (int) Math.max(1, TimeUnit.SECONDS.toMillis(period) / TICK_MILLIS);
+        int index = phases.merge(periodTicks, 1, Integer::sum) - 1;
+        double fraction = index * PHASE_STEP - Math.floor(index * PHASE_STEP);
+
+        if (ticker == null) {
+            startNanos = System.nanoTime();
+            tick = 0;
+            ticker = executor.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        Job job = new Job(task, periodTicks, tick + 1 + (long) (fraction * periodTicks));
+        insert(job, job.nextRun);
+        jobCount++;
+        return job;
+    }
+
+    /**
+     * Cancels all jobs and stops the ticker
+     */
+    public synchronized void stop() {
+        for (List<Job> slot : wheel) {
+            for (Job job : slot) {
+                job.cancelled = true;
+            }
+            slot.clear();
+        }
+        jobCount = 0;
+        phases.clear();
+        stopTicker();
+    }
+
+    private void insert(Job job, long runTick) {
+        job.dueTick = runTick;
+        wheel.get((int) (runTick & (WHEEL_SIZE - 1))).add(job);
+    }
+
+    private void stopTicker() {
+        ScheduledFuture<?> future = ticker;
+        if (future != null) {
+            future.cancel(false);
+            ticker = null;
+        }
+    }
+
+    /**
+     * Advances the wheel by one tick and hands over all due jobs
+     */
+    private void tick() {
+        List<Job> due = new ArrayList<>();
+        long dueNanos;
+        synchronized (this) {
+            long current = ++tick;
+            dueNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(current * TICK_MILLIS);
+            Iterator<Job> iterator = wheel.get((int) (current & (WHEEL_SIZE - 1))).iterator();
+            while (iterator.hasNext()) {
+                Job job = iterator.next();
+                if (job.cancelled) {
+                    iterator.remove();
+                    jobCount--;
+                } else if (job.dueTick <= current) {
+                    iterator.remove();
+                    due.add(job);
+                    job.nextRun += job.period;
+                    int jitter = ThreadLocalRandom.current().nextInt(Math.min(MAX_JITTER, job.period / 10) + 1);
+                    insert(job, Math.max(current + 1, job.nextRun + jitter));
+                }
+            }
+            if (jobCount == 0) {
+                stopTicker();
+                phases.clear();
+            }
+        }
+        for (Job job : due) {
+            executor.execute(() -> {
+                long lag = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - dueNanos);
+                runs.increment();
+                lagMillis.add(lag);
+                maxLagMillis.accumulateAndGet(lag, Math::max);
+                job.task.run();
+            });
+        }
+    }
+
+    /**
+     * @return number of scheduled jobs
+     */
+    public synchronized int getJobCount() {
+        return jobCount;
+    }
+
+    /**
+     * @return average delay between the planned and the actual start of a job in milliseconds
+     */
+    public long getAverageLag() {
+        long count = runs.sum();
+        return count == 0 ? 0 : lagMillis.sum() / count;
+    }
+
+    /**
+     * @return highest delay between the planned and the actual start of a job in milliseconds
+     */
+    public long getMaxLag() {
+        return maxLagMillis.get();
+    }
+
+    @Override
+    public String toString() {
+        return "jobs=" + getJobCount() + ", runs=" + runs.sum() + ", lag avg=" + getAverageLag() + " ms, max="
+                + getMaxLag() + " ms";
+    }
+
+    /**
+     * A periodic job of the wheel
+     */
+    public static class Job {
+        private final Runnable task;
+        private final int period;
+        // Planned run without jitter and the tick the job is placed at
+        private long nextRun;
+        private long dueTick;
+        private volatile boolean cancelled = false;
+
+        Job(Runnable task, int period, long firstRun) {
+            this.task = task;
+            this.period = period;
+            this.nextRun = firstRun;
+        }
+
+        /**
+         * Cancels the job, it is removed from the wheel with its next tick
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+}
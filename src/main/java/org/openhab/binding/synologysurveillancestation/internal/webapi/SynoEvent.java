@@ -31,9 +31,15 @@ public class SynoEvent {
     public static final int EVENT_REASON_EDGE = 8;
     public static final int EVENT_REASON_ACTIONRULE = 9;
 
+    // Reason names indexed by reason
+    private static final String[] REASON_NAMES = { "", "continuous", "motion", "alarm", "custom", "manual",
+            "external", "analytics", "edge", "actionrule" };
+
     private boolean eventCompleted = true;
     private long eventId = -1;
     private final int reason;
+    private long startTime = 0;
+    private long stopTime = 0;
 
     /**
      * Constructor for OH2 side
@@ -50,11 +56,15 @@ public class SynoEvent {
      * @param eventCompleted
      * @param eventId
      * @param reason
+     * @param startTime
+     * @param stopTime
      */
-    public SynoEvent(long eventId, boolean eventCompleted, int reason) {
+    public SynoEvent(long eventId, boolean eventCompleted, int reason, long startTime, long stopTime) {
         this.eventCompleted = eventCompleted;
         this.eventId = eventId;
         this.reason = reason;
+        this.startTime = startTime;
+        this.stopTime = stopTime;
     }
 
     /**
@@ -92,4 +102,46 @@ public class SynoEvent {
         return reason;
     }
 
+    /**
+     * @return the start time in seconds since epoch
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * @return the stop time in seconds since epoch, 0 while the event is running
+     */
+    public long getStopTime() {
+        return eventCompleted ? stopTime : 0;
+    }
+
+    /**
+     * @return compact JSON representation with eventId, reason, startTime and stopTime
+     */
+    public String toJson() {
+        return "{\"eventId\":" + eventId + ",\"reason\":\"" + getReasonName() + "\",\"startTime\":" + startTime
+                + ",\"stopTime\":" + getStopTime() + "}";
+    }
+
+    /**
+     * @return the name of the reason
+     */
+    public String getReasonName() {
+        return reason > 0 && reason < REASON_NAMES.length ? REASON_NAMES[reason] : String.valueOf(reason);
+    }
+
+    /**
+     * @param name reason name as returned by {@link #getReasonName()}
+     * @return the reason or 0 if unknown
+     */
+    public static int getReason(String name) {
+        for (int reason = 1; reason < REASON_NAMES.length; reason++) {
+            if (REASON_NAMES[reason].equalsIgnoreCase(name)) {
+                return reason;
+            }
+        }
+        return 0;
+    }
+
 }
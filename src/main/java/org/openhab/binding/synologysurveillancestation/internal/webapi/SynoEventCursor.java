@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiEvent;
+
+/**
+ * {@link SynoEventCursor} keeps the start time of the next event query of a camera and remembers the completed
+ * events already processed, as events at and after the start time are listed again by each query.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SynoEventCursor {
+    // Time in seconds the query start stays behind the server time without new events, covers late recorded events
+    public static final int OVERLAP = 10;
+    // Maximum time in seconds the query start stays behind the server time to wait for an incomplete event
+    public static final int MAX_LAG = 600;
+    // Number of completed events remembered, at least the events a single query can return
+    public static final int CAPACITY = SynoApiEvent.MAX_EVENTS;
+
+    private volatile long fromTime;
+    private long newestEventTime;
+    private long lastEventId = -1;
+    private final SynoEventIdSet processedEvents = new SynoEventIdSet(CAPACITY);
+
+    /**
+     * @param fromTime start time of the first query in seconds since epoch
+     */
+    public SynoEventCursor(long fromTime) {
+        this.fromTime = fromTime;
+        newestEventTime = fromTime;
+    }
+
+    /**
+     * @return the start time for the next event query in seconds since epoch
+     */
+    public long getFromTime() {
+        return fromTime;
+    }
+
+    /**
+     * @return if the event was already seen as completed
+     */
+    public synchronized boolean isProcessed(SynoEvent event) {
+        return event.getEventId() <= lastEventId && processedEvents.contains(event.getEventId());
+    }
+
+    /**
+     * Remembers completed events and moves the query start to the newest event, or to the oldest incomplete one
+     * which has to be polled until it completes. Without newer events the query start follows the server time,
+     * less {@link #OVERLAP}, and an incomplete event holds it back at most {@link #MAX_LAG} seconds, so an idle
+     * camera or a long running event does not make the query list ever more events.
+     *
+     * @param events events of the camera, newest first
+     * @param serverTime time of the query on the server in seconds since epoch, 0 if unknown
+     */
+    public synchronized void advance(List<SynoEvent> events, long serverTime) {
+        long oldestIncomplete = Long.MAX_VALUE;
+        for (SynoEvent event : events) {
+            lastEventId = Math.max(lastEventId, event.getEventId());
+            newestEventTime = Math.max(newestEventTime, event.getStartTime());
+            if (event.isEventCompleted()) {
+                processedEvents.add(event.getEventId());
+            } else {
+                oldestIncomplete = Math.min(oldestIncomplete, event.getStartTime());
+            }
+        }
+        long next = newestEventTime;
+        if (serverTime > 0) {
+            next = Math.max(next, serverTime - OVERLAP);
+            if (oldestIncomplete != Long.MAX_VALUE) {
+                oldestIncomplete = Math.max(oldestIncomplete, serverTime - MAX_LAG);
+            }
+        }
+        fromTime = Math.min(next, oldestIncomplete);
+    }
+
+}
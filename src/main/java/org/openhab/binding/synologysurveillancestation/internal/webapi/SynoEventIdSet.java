@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * {@link SynoEventIdSet} is a bounded set of event IDs without boxing. Once the capacity is reached, the oldest
+ * added ID is evicted.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SynoEventIdSet {
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    // IDs in insertion order, oldest at head once full
+    private final long[] ring;
+    // Open addressing table with linear probing, at most half full
+    private final long[] table;
+    private final int mask;
+    private int head = 0;
+    private int size = 0;
+
+    /**
+     * @param capacity maximum number of IDs kept
+     */
+    public SynoEventIdSet(int capacity) {
+        ring = new long[Math.max(1, capacity)];
+        table = new long[Integer.highestOneBit(ring.length) << 2];
+        mask = table.length - 1;
+        Arrays.fill(table, EMPTY);
+    }
+
+    /**
+     * @return if the ID is in the set
+     */
+    public synchronized boolean contains(long id) {
+        return id != EMPTY && find(id) >= 0;
+    }
+
+    /**
+     * Adds an ID, evicting the oldest one if the set is full
+     *
+     * @return false if the ID was already in the set
+     */
+    public synchronized boolean add(long id) {
+        if (id == EMPTY || find(id) >= 0) {
+            return false;
+        }
+        if (size == ring.length) {
+            remove(ring[head]);
+            ring[head] = id;
+            head = (head + 1) % ring.length;
+        } else {
+            ring[size++] = id;
+        }
+        int i = slot(id);
+        while (table[i] != EMPTY) {
+            i = (i + 1) & mask;
+        }
+        table[i] = id;
+        return true;
+    }
+
+    /**
+     * @return number of IDs in the set
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Removes all IDs
+     */
+    public synchronized void clear() {
+        Arrays.fill(table, EMPTY);
+        head = 0;
+        size = 0;
+    }
+
+    private int find(long id) {
+        for (int i = slot(id); table[i] != EMPTY; i = (i + 1) & mask) {
+            if (table[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes an ID from the table, shifting following entries of the probe sequence back into the gap
+     */
+    private void remove(long id) {
+        int gap = find(id);
+        if (gap < 0) {
+            return;
+        }
+        for (int i = (gap + 1) & mask; table[i] != EMPTY; i = (i + 1) & mask) {
+            int home = slot(table[i]);
+            // move the entry if its home slot is not cyclically within (gap, i]
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                table[gap] = table[i];
+                gap = i;
+            }
+        }
+        table[gap] = EMPTY;
+    }
+
+    private int slot(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+}
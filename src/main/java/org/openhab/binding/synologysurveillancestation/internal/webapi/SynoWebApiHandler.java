@@ -13,14 +13,22 @@
 package org.openhab.binding.synologysurveillancestation.internal.webapi;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiAuth;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiCamera;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiCameraEvent;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiCompound;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiEvent;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiExternalEvent;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiExternalRecording;
@@ -29,8 +37,10 @@ import org.openhab.binding.synologysurveillancestation.internal.webapi.request.S
 import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiLiveUri;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiPTZ;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiRequest;
-import org.openhab.binding.synologysurveillancestation.internal.webapi.response.AuthResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiRequestLimiter;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SimpleResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The {@link SynoWebApiHandler} is a facade for Synology Surveillance Station Web API.
@@ -40,17 +50,37 @@ import org.openhab.binding.synologysurveillancestation.internal.webapi.response.
  */
 @NonNullByDefault
 public class SynoWebApiHandler implements SynoWebApi {
+    private final Logger logger = LoggerFactory.getLogger(SynoWebApiHandler.class);
+
+    // Maximum time to wait for a login in seconds
+    private static final int LOGIN_TIMEOUT = 30;
+    // Idle time in minutes after which the session is kept alive with a request
+    public static final int KEEP_ALIVE_IDLE = 5;
+    // Default session lifetime in minutes after which a new session is created
+    public static final int DEFAULT_SESSION_LIFETIME = 720;
+    // Time in seconds a replaced session is kept for requests in flight before it is logged out
+    private static final int RETIRED_SESSION_GRACE = 60;
 
     private SynoConfig config;
-    private String sessionID = "";
+    private volatile String sessionID = "";
+    private @Nullable CompletableFuture<String> login;
+    private @Nullable Consumer<String> sessionListener;
+    private volatile long sessionStart = System.nanoTime();
+    private volatile int sessionLifetime = DEFAULT_SESSION_LIFETIME;
+    private String retiredSessionID = "";
+    private long retiredAt;
 
     private final HashMap<Class<?>, SynoApiRequest<?>> api = new HashMap<>();
+    private final SynoApiRequestLimiter requestLimiter;
 
     /**
      * @param config
+     * @param httpClient
+     * @param executor executor starting queued requests
      */
-    public SynoWebApiHandler(SynoConfig config, HttpClient httpClient) {
+    public SynoWebApiHandler(SynoConfig config, HttpClient httpClient, ScheduledExecutorService executor) {
         this.config = config;
+        this.requestLimiter = new SynoApiRequestLimiter(SynoApiRequestLimiter.DEFAULT_MAX_REQUESTS, executor);
         api.put(SynoApiAuth.class, new SynoApiAuth(config, httpClient));
         api.put(SynoApiInfo.class, new SynoApiInfo(config, httpClient));
         api.put(SynoApiCamera.class, new SynoApiCamera(config, httpClient));
@@ -61,6 +91,22 @@ public class SynoWebApiHandler implements SynoWebApi {
         api.put(SynoApiLiveUri.class, new SynoApiLiveUri(config, httpClient));
         api.put(SynoApiExternalEvent.class, new SynoApiExternalEvent(config, httpClient));
         api.put(SynoApiCameraEvent.class, new SynoApiCameraEvent(config, httpClient));
+        api.put(SynoApiCompound.class, new SynoApiCompound(config, httpClient));
+        for (SynoApiRequest<?> r : api.values()) {
+            r.setRequestLimiter(requestLimiter);
+            if (!(r instanceof SynoApiAuth)) {
+                r.setSessionRenewer(this::renewSession);
+            }
+        }
+    }
+
+    /**
+     * Sets the listener notified with the new session id after each login
+     *
+     * @param sessionListener
+     */
+    public void setSessionListener(Consumer<String> sessionListener) {
+        this.sessionListener = sessionListener;
     }
 
     /**
@@ -97,6 +143,22 @@ public class SynoWebApiHandler implements SynoWebApi {
         return sessionID;
     }
 
+    /**
+     * Sets the maximum number of concurrent requests to the station
+     *
+     * @param maxConcurrentRequests
+     */
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        requestLimiter.setMaxRequests(maxConcurrentRequests);
+    }
+
+    /**
+     * @return the request limiter shared by all APIs
+     */
+    public SynoApiRequestLimiter getRequestLimiter() {
+        return requestLimiter;
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -104,14 +166,157 @@ public class SynoWebApiHandler implements SynoWebApi {
      */
     @Override
     public boolean connect(boolean forceLogout) throws WebApiException {
-        AuthResponse response = getApiAuth().login();
-        if (response.isSuccess()) {
-            String sid = response.getSid();
-            setSessionID(sid);
+        try {
+            login().get(LOGIN_TIMEOUT, TimeUnit.SECONDS);
             return true;
-        } else {
-            throw new WebApiException(WebApiAuthErrorCodes.getByCode(response.getErrorcode()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebApiException(e);
+        } catch (ExecutionException e) {
+            throw WebApiException.fromFailure(e);
+        } catch (TimeoutException e) {
+            throw new WebApiException(e);
+        }
+    }
+
+    /**
+     * Renews an expired session. Only the first caller with an expired session logs in, all others wait for the
+     * same login. Callers whose session has already been replaced get the current session at once.
+     *
+     * @param expiredSessionId session the caller's request failed with
+     * @return future completed with the new session id
+     */
+    public CompletableFuture<String> renewSession(String expiredSessionId) {
+        synchronized (this) {
+            if (login == null && !expiredSessionId.equals(sessionID)) {
+                return CompletableFuture.completedFuture(sessionID);
+            }
         }
+        return login();
+    }
+
+    /**
+     * Logs in, concurrent calls share a single login request
+     *
+     * @return future completed with the new session id
+     */
+    private CompletableFuture<String> login() {
+        CompletableFuture<String> current;
+        synchronized (this) {
+            current = login;
+            if (current != null) {
+                return current;
+            }
+            current = new CompletableFuture<>();
+            login = current;
+        }
+
+        logger.debug("Renewing session");
+        CompletableFuture<String> result = current;
+        getApiAuth().loginAsync().whenComplete((response, failure) -> {
+            @Nullable
+            String sid = null;
+            if (failure == null && response.isSuccess()) {
+                sid = response.getSid();
+                sessionStart = System.nanoTime();
+                setSessionID(sid);
+            }
+            synchronized (this) {
+                login = null;
+            }
+            if (sid != null) {
+                Consumer<String> listener = sessionListener;
+                if (listener != null) {
+                    listener.accept(sid);
+                }
+                result.complete(sid);
+            } else if (failure != null) {
+                result.completeExceptionally(WebApiException.fromFailure(failure));
+            } else {
+                result.completeExceptionally(
+                        new WebApiException(WebApiAuthErrorCodes.getByCode(response.getErrorcode())));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Sets the time after which a new session is created in the background
+     *
+     * @param sessionLifetime lifetime in minutes, 0 to keep sessions until they expire
+     */
+    public void setSessionLifetime(int sessionLifetime) {
+        this.sessionLifetime = sessionLifetime;
+    }
+
+    /**
+     * Keeps the session valid, to be called periodically. A session older than the session lifetime is replaced by
+     * a new one, an idle session is kept alive with a lightweight request. Requests in flight keep using the old
+     * session, the new one is used from the next request on.
+     *
+     * The replaced session is logged out by a later call, once requests in flight have had time to finish.
+     *
+     * @return future completed when the session is maintained
+     */
+    public CompletableFuture<?> maintainSession() {
+        CompletableFuture<?> logout = logoutRetiredSession(false);
+        if (!isConnected()) {
+            return logout;
+        }
+        long lifetime = sessionLifetime;
+        long age = TimeUnit.NANOSECONDS.toMinutes(System.nanoTime() - sessionStart);
+        CompletableFuture<?> maintenance = CompletableFuture.completedFuture(null);
+        if (lifetime > 0 && age >= lifetime) {
+            logger.debug("Session is {} minutes old, creating a new one", age);
+            String replaced = sessionID;
+            maintenance = login().thenAccept(sid -> retireSession(replaced, sid));
+        } else if (TimeUnit.MILLISECONDS.toMinutes(requestLimiter.getIdleMillis()) >= KEEP_ALIVE_IDLE) {
+            logger.debug("Session idle, sending keep-alive");
+            maintenance = getApiInfo().getInfoAsync();
+        }
+        return CompletableFuture.allOf(logout, maintenance);
+    }
+
+    /**
+     * Remembers a replaced session to be logged out after the grace period
+     *
+     * @param replaced replaced session id
+     * @param current new session id
+     */
+    private void retireSession(String replaced, String current) {
+        if (replaced.isEmpty() || replaced.equals(current)) {
+            return;
+        }
+        // A session still waiting for its logout is logged out at once
+        logoutRetiredSession(true);
+        synchronized (this) {
+            retiredSessionID = replaced;
+            retiredAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Logs out the replaced session once its grace period has passed
+     *
+     * @param force log out regardless of the grace period
+     * @return future completed when the session is logged out
+     */
+    private CompletableFuture<?> logoutRetiredSession(boolean force) {
+        String retired;
+        synchronized (this) {
+            retired = retiredSessionID;
+            if (retired.isEmpty() || (!force
+                    && System.nanoTime() - retiredAt < TimeUnit.SECONDS.toNanos(RETIRED_SESSION_GRACE))) {
+                return CompletableFuture.completedFuture(null);
+            }
+            retiredSessionID = "";
+        }
+        logger.debug("Logging out replaced session");
+        return getApiAuth().logoutAsync(retired).whenComplete((response, failure) -> {
+            if (failure != null || !response.isSuccess()) {
+                logger.debug("Logout of replaced session failed");
+            }
+        });
     }
 
     /*
@@ -121,6 +326,7 @@ public class SynoWebApiHandler implements SynoWebApi {
      */
     @Override
     public SimpleResponse disconnect() throws WebApiException {
+        logoutRetiredSession(true);
         SimpleResponse response = getApiAuth().logout(sessionID);
         setSessionID("");
 
@@ -199,6 +405,13 @@ public class SynoWebApiHandler implements SynoWebApi {
         return getApi(SynoApiExternalEvent.class);
     }
 
+    /**
+     * @return the apiCompound
+     */
+    public SynoApiCompound getApiCompound() {
+        return getApi(SynoApiCompound.class);
+    }
+
     /**
      * @return the apiLiveUri
      */
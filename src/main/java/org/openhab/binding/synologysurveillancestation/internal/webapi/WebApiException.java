@@ -12,6 +12,9 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi;
 
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.error.ErrorCode;
 
@@ -50,7 +53,7 @@ public class WebApiException extends Exception {
     }
 
     public WebApiException(String errorMsg, Throwable cause) {
-        super(errorMsg);
+        super(errorMsg, cause);
         this.errorCode = UNKNOWN;
         this.errorMsg = errorMsg;
     }
@@ -75,4 +78,22 @@ public class WebApiException extends Exception {
         return errorMsg;
     }
 
+    /**
+     * Unwraps the failure of an asynchronous request
+     *
+     * @param failure exception thrown by a future
+     * @return the original WebApiException or a new one wrapping the cause
+     */
+    public static WebApiException fromFailure(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof WebApiException) {
+            return (WebApiException) cause;
+        }
+        return new WebApiException(cause);
+    }
+
 }
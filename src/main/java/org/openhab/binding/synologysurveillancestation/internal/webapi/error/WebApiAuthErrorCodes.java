@@ -77,6 +77,17 @@ public enum WebApiAuthErrorCodes implements ErrorCode {
         return ErrorCode.lookup(WebApiAuthErrorCodes.class, code);
     }
 
+    /**
+     * Session errors are resolved by a new login
+     *
+     * @param code
+     * @return if the code indicates an invalid, expired or interrupted session
+     */
+    public static boolean isSessionError(int code) {
+        return code == INSUFFICIENT_USER_PRIVILEGE.code || code == CONNECT_TIMEOUT.code || code == MULTIPLE_LOGIN.code
+                || code == UNKNOWN_ERROR_119.code;
+    }
+
     @Override
     public String toString() {
         return this.name() + " | ErrorCode: " + this.getCode() + " - " + this.getMsg();
@@ -61,6 +61,8 @@ public interface SynoApi {
     public static final String METHOD_MOTIONENUM = "MotionEnum";
     public static final String METHOD_MDPARAMSAVE = "MDParamSave";
 
+    public static final String METHOD_REQUEST = "request";
+
     public static final int CONNECTION_TIMEOUT = 5000;
 
     public SynoApiConfig getApiConfig();
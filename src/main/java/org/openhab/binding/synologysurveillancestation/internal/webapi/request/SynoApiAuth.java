@@ -12,8 +12,7 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi.request;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.HttpClient;
@@ -46,30 +45,25 @@ public class SynoApiAuth extends SynoApiRequest<AuthResponse> {
      * @param config
      */
     public SynoApiAuth(SynoConfig config, HttpClient httpClient) {
-        super(API_CONFIG, config, httpClient);
+        super(API_CONFIG, config, httpClient, AuthResponse::new);
     }
 
     /**
-     * Calls the passed method.
+     * Creates the parameters for Login.
      *
-     * @param method
      * @return
-     * @throws WebApiException
      */
-    private AuthResponse call(String method) throws WebApiException {
-        Map<String, String> params = new HashMap<>();
+    private SynoApiParams getLoginParams() {
+        SynoApiParams params = new SynoApiParams();
 
         // API parameters
-        params.put("account", getConfig().getUsername());
-        params.put("passwd", getConfig().getPassword());
+        params.add("account", getConfig().getUsername());
+        params.add("passwd", getConfig().getPassword());
 
-        params.put("session", "SurveillanceStation");
-        params.put("format", "sid");
+        params.add("session", "SurveillanceStation");
+        params.add("format", "sid");
 
-        if (getConfig().getUsername().equals("")) {
-            throw new WebApiException(100, "Empty credentials");
-        }
-        return callApi(method, params);
+        return params;
     }
 
     /**
@@ -79,7 +73,22 @@ public class SynoApiAuth extends SynoApiRequest<AuthResponse> {
      * @throws WebApiException
      */
     public AuthResponse login() throws WebApiException {
-        return call(METHOD_LOGIN);
+        if (getConfig().getUsername().equals("")) {
+            throw new WebApiException(100, "Empty credentials");
+        }
+        return callApi(METHOD_LOGIN, getLoginParams());
+    }
+
+    /**
+     * Create new login session asynchronously.
+     *
+     * @return
+     */
+    public CompletableFuture<AuthResponse> loginAsync() {
+        if (getConfig().getUsername().equals("")) {
+            return failedFuture(new WebApiException(100, "Empty credentials"));
+        }
+        return callApiAsync(METHOD_LOGIN, getLoginParams());
     }
 
     /**
@@ -89,13 +98,29 @@ public class SynoApiAuth extends SynoApiRequest<AuthResponse> {
      * @throws WebApiException
      */
     public AuthResponse logout(String sessionId) throws WebApiException {
-        Map<String, String> params = new HashMap<>();
+        SynoApiParams params = new SynoApiParams();
 
         // API parameters
-        params.put("session", "SurveillanceStation");
-        params.put("_sid", sessionId);
+        params.add("session", "SurveillanceStation");
+        params.add("_sid", sessionId);
 
         return callApi(METHOD_LOGOUT, params);
     }
 
+    /**
+     * Destroy a login session asynchronously.
+     *
+     * @param sessionId session to destroy
+     * @return
+     */
+    public CompletableFuture<AuthResponse> logoutAsync(String sessionId) {
+        SynoApiParams params = new SynoApiParams();
+
+        // API parameters
+        params.add("session", "SurveillanceStation");
+        params.add("_sid", sessionId);
+
+        return callApiAsync(METHOD_LOGOUT, params);
+    }
+
 }
@@ -12,22 +12,22 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi.request;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
-import org.apache.commons.io.IOUtils;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.HttpClient;
-import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.util.InputStreamResponseListener;
+import org.eclipse.jetty.http.HttpHeader;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
@@ -72,11 +72,16 @@ public class SynoApiCamera extends SynoApiRequest<CameraResponse> {
     private static final String API_NAME = "SYNO.SurveillanceStation.Camera";
     private static final SynoApiConfig API_CONFIG = new SynoApiConfig(API_NAME, API_VERSION_08, API_SCRIPT_ENTRY);
 
+    // Maximum size of a snapshot in bytes
+    public static final int SNAPSHOT_MAX_SIZE = 16 * 1024 * 1024;
+    // Initial buffer size for snapshots without Content-Length
+    private static final int SNAPSHOT_INITIAL_SIZE = 256 * 1024;
+
     /**
      * @param config
      */
     public SynoApiCamera(SynoConfig config, HttpClient httpClient) {
-        super(API_CONFIG, config, httpClient);
+        super(API_CONFIG, config, httpClient, CameraResponse::new);
     }
 
     /**
@@ -99,67 +104,173 @@ public class SynoApiCamera extends SynoApiRequest<CameraResponse> {
      * @throws WebApiException
      */
     private CameraResponse call(String method, String cameraId) throws WebApiException {
-        Map<String, String> params = new HashMap<>();
+        return callApi(method, getParams(cameraId, true));
+    }
+
+    /**
+     * Creates the parameters for List and GetInfo.
+     *
+     * @param cameraId
+     * @param streamInfo if stream details (e.g. resolution) are to be returned
+     * @return
+     */
+    private SynoApiParams getParams(String cameraId, boolean streamInfo) {
+        SynoApiParams params = new SynoApiParams();
 
         // API parameters
-        params.put("blFromCamList", API_TRUE);
-        params.put("privCamType", API_TRUE);
-        params.put("blIncludeDeletedCam", API_FALSE);
-        params.put("basic", API_TRUE);
-        params.put("streamInfo", API_TRUE);
-        params.put("blPrivilege", API_FALSE);
-        params.put("cameraIds", cameraId);
-
-        return callApi(method, params);
+        params.add("blFromCamList", API_TRUE);
+        params.add("privCamType", API_TRUE);
+        params.add("blIncludeDeletedCam", API_FALSE);
+        params.add("basic", API_TRUE);
+        params.add("streamInfo", streamInfo);
+        params.add("blPrivilege", API_FALSE);
+        params.add("cameraIds", cameraId);
+
+        return params;
     }
 
     /**
      * Get the up-to-date snapshot of the selected camera in JPEG format.
      *
-     * @throws WebApiException
+     * The image is streamed from the connection into an array sized by the Content-Length header, which is returned
+     * as is. Responses without Content-Length are collected in a growing buffer and copied once.
+     *
+     * @throws WebApiException if the request fails or the image exceeds {@link #SNAPSHOT_MAX_SIZE}
      * @throws IOException
-     * @throws UnsupportedOperationException
      * @throws URISyntaxException
      *
      */
     public byte[] getSnapshot(String cameraId, int timeout, int streamId)
             throws IOException, URISyntaxException, WebApiException {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-
+        String sessionId = getRequestSessionId();
         try {
-            Map<String, String> params = new HashMap<>();
+            return downloadSnapshot(cameraId, timeout, streamId);
+        } catch (WebApiException e) {
+            if (e.getErrorCode() != WebApiAuthErrorCodes.INSUFFICIENT_USER_PRIVILEGE.getCode()
+                    || !renewSession(sessionId)) {
+                throw e;
+            }
+            logger.debug("Device: {}, session expired, downloading snapshot again with renewed session", cameraId);
+            return downloadSnapshot(cameraId, timeout, streamId);
+        }
+    }
 
-            // API parameters
-            params.put("cameraId", cameraId);
-            params.put("camStm", String.valueOf(streamId));
+    /**
+     * Downloads a snapshot with the current session
+     *
+     * @param cameraId
+     * @param timeout
+     * @param streamId
+     * @return
+     * @throws IOException
+     * @throws WebApiException
+     */
+    private byte[] downloadSnapshot(String cameraId, int timeout, int streamId) throws IOException, WebApiException {
+        SynoApiParams params = new SynoApiParams();
 
-            Request request = getWebApiUrl(METHOD_GETSNAPSHOT, params);
+        // API parameters
+        params.add("cameraId", cameraId);
+        params.add("camStm", streamId);
+
+        Request request = getWebApiUrl(METHOD_GETSNAPSHOT, params);
 
+        SynoApiRequestLimiter limiter = getRequestLimiter();
+        limiter.acquire();
+        try {
             long responseTime = System.currentTimeMillis();
 
-            ContentResponse response = request.timeout(timeout, TimeUnit.SECONDS).send();
+            InputStreamResponseListener listener = new InputStreamResponseListener();
+            request.timeout(timeout, TimeUnit.SECONDS).send(listener);
+            Response response;
+            try {
+                response = listener.get(timeout, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                request.abort(e);
+                throw e;
+            }
 
-            responseTime = System.currentTimeMillis() - responseTime;
-            if (response.getStatus() == 200) {
-                byte[] ret = response.getContent();
-                if (ret.length < 200) {
-                    if (new String(ret).contains("\"success\":false")) {
-                        logger.trace("Device: {}, API response time: {} ms, unexpected response: {}", cameraId,
-                                responseTime, new String(ret));
-                        throw new WebApiException(WebApiAuthErrorCodes.INSUFFICIENT_USER_PRIVILEGE);
-                    }
+            byte[] ret = new byte[0];
+            try (InputStream is = listener.getInputStream()) {
+                if (response.getStatus() == 200) {
+                    ret = readSnapshot(is, response.getHeaders().getLongField(HttpHeader.CONTENT_LENGTH.asString()));
                 }
-                InputStream is = new ByteArrayInputStream(ret);
-                IOUtils.copy(is, baos);
             }
-            logger.trace("Device: {}, API response time: {} ms, stream id: {}", cameraId, responseTime, streamId);
-            return baos.toByteArray();
-        } catch (IllegalArgumentException | SecurityException | ExecutionException | TimeoutException
-                | InterruptedException e) {
+
+            responseTime = System.currentTimeMillis() - responseTime;
+            if (ret.length < 200 && new String(ret).contains("\"success\":false")) {
+                logger.trace("Device: {}, API response time: {} ms, unexpected response: {}", cameraId, responseTime,
+                        new String(ret));
+                throw new WebApiException(WebApiAuthErrorCodes.INSUFFICIENT_USER_PRIVILEGE);
+            }
+            logger.trace("Device: {}, API response time: {} ms, stream id: {}, size: {}", cameraId, responseTime,
+                    streamId, ret.length);
+            return ret;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebApiException(e);
+        } catch (IllegalArgumentException | SecurityException | ExecutionException | TimeoutException e) {
             throw new WebApiException(e);
+        } finally {
+            limiter.release();
         }
     }
 
+    /**
+     * Reads a snapshot from the response stream. With a known length the image is read into an array of exactly
+     * that size, which is kept by the framework as the published image, so pooling it would not save anything.
+     *
+     * @param is response content
+     * @param contentLength announced length or -1 if unknown
+     * @return the image data
+     * @throws IOException
+     * @throws WebApiException if the image exceeds {@link #SNAPSHOT_MAX_SIZE} or is incomplete
+     */
+    private byte[] readSnapshot(InputStream is, long contentLength) throws IOException, WebApiException {
+        if (contentLength > SNAPSHOT_MAX_SIZE) {
+            throw new WebApiException("Snapshot exceeds maximum size: " + contentLength + " bytes");
+        } else if (contentLength < 0) {
+            return readSnapshot(is);
+        }
+
+        byte[] image = new byte[(int) contentLength];
+        int size = 0;
+        while (size < image.length) {
+            int read = is.read(image, size, image.length - size);
+            if (read < 0) {
+                throw new WebApiException("Incomplete snapshot: " + size + " of " + contentLength + " bytes");
+            }
+            size += read;
+        }
+        return image;
+    }
+
+    /**
+     * Reads a snapshot of unknown length into a buffer, doubled as needed
+     *
+     * @param is response content
+     * @return the image data
+     * @throws IOException
+     * @throws WebApiException if the image exceeds {@link #SNAPSHOT_MAX_SIZE}
+     */
+    private byte[] readSnapshot(InputStream is) throws IOException, WebApiException {
+        byte[] buffer = new byte[SNAPSHOT_INITIAL_SIZE];
+        int size = 0;
+        while (true) {
+            if (size == buffer.length) {
+                if (size >= SNAPSHOT_MAX_SIZE) {
+                    throw new WebApiException("Snapshot exceeds maximum size: " + SNAPSHOT_MAX_SIZE + " bytes");
+                }
+                buffer = Arrays.copyOf(buffer, Math.min(size * 2, SNAPSHOT_MAX_SIZE));
+            }
+            int read = is.read(buffer, size, buffer.length - size);
+            if (read < 0) {
+                break;
+            }
+            size += read;
+        }
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
     /**
      * Get snapshot URI of the selected camera
      *
@@ -171,11 +282,11 @@ public class SynoApiCamera extends SynoApiRequest<CameraResponse> {
      */
     public String getSnapshotUri(String cameraId, int streamId) throws WebApiException {
         try {
-            Map<String, String> params = new HashMap<>();
+            SynoApiParams params = new SynoApiParams();
 
             // API parameters
-            params.put("cameraId", cameraId);
-            params.put("camStm", String.valueOf(streamId));
+            params.add("cameraId", cameraId);
+            params.add("camStm", streamId);
 
             Request request = getWebApiUrl(METHOD_GETSNAPSHOT, params);
             return request.getURI().toString();
@@ -216,6 +327,28 @@ public class SynoApiCamera extends SynoApiRequest<CameraResponse> {
         return response;
     }
 
+    /**
+     * Get specific camera settings asynchronously.
+     *
+     * @param cameraId
+     * @return
+     */
+    public CompletableFuture<CameraResponse> getInfoAsync(String cameraId) {
+        return callApiAsync(METHOD_GETINFO, getParams(cameraId, true))
+                .thenApply(response -> requireSuccess(response));
+    }
+
+    /**
+     * Get settings of several cameras as part of a compound request.
+     *
+     * @param cameraIds
+     * @param streamInfo if stream details are needed, the state (enabled, recording) is part of the basic info
+     * @return
+     */
+    public SynoApiCompound.Call<CameraResponse> getInfoCall(Collection<String> cameraIds, boolean streamInfo) {
+        return compoundCall(METHOD_GETINFO, getParams(String.join(",", cameraIds), streamInfo));
+    }
+
     /**
      * Toggle camera.
      *
@@ -224,9 +357,23 @@ public class SynoApiCamera extends SynoApiRequest<CameraResponse> {
      * @throws WebApiException
      */
     public CameraResponse toggleCamera(String cameraId, boolean on) throws WebApiException {
-        Map<String, String> params = new HashMap<>();
-        params.put("cameraIds", cameraId);
+        SynoApiParams params = new SynoApiParams();
+        params.add("cameraIds", cameraId);
 
         return callApi(on ? METHOD_ENABLE : METHOD_DISABLE, params);
     }
+
+    /**
+     * Toggle camera asynchronously.
+     *
+     * @param cameraId
+     * @param on
+     * @return
+     */
+    public CompletableFuture<CameraResponse> toggleCameraAsync(String cameraId, boolean on) {
+        SynoApiParams params = new SynoApiParams();
+        params.add("cameraIds", cameraId);
+
+        return callApiAsync(on ? METHOD_ENABLE : METHOD_DISABLE, params);
+    }
 }
@@ -12,8 +12,7 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi.request;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.HttpClient;
@@ -45,7 +44,7 @@ public class SynoApiCameraEvent extends SynoApiRequest<CameraEventResponse> {
      * @param config
      */
     public SynoApiCameraEvent(SynoConfig config, HttpClient httpClient) {
-        super(API_CONFIG, config, httpClient);
+        super(API_CONFIG, config, httpClient, CameraEventResponse::new);
     }
 
     /**
@@ -56,20 +55,28 @@ public class SynoApiCameraEvent extends SynoApiRequest<CameraEventResponse> {
      * @throws WebApiException
      */
     public CameraEventResponse getMDParam(String cameraId) throws WebApiException {
-        Map<String, String> params = new HashMap<>();
-        params.put("camId", cameraId);
+        SynoApiParams params = new SynoApiParams();
+        params.add("camId", cameraId);
         return callApi(METHOD_MOTIONENUM, params);
     }
 
+    /**
+     * Get motion detection parameter asynchronously
+     *
+     * @param cameraId
+     * @return
+     */
+    public CompletableFuture<CameraEventResponse> getMDParamAsync(String cameraId) {
+        SynoApiParams params = new SynoApiParams();
+        params.add("camId", cameraId);
+        return callApiAsync(METHOD_MOTIONENUM, params);
+    }
+
     public SimpleResponse setSource(String cameraId, String source) throws WebApiException {
-        if (!(source.equals("-1") || source.equals("0") || source.equals("1"))) {
+        if (!isValidSource(source)) {
             return new SimpleResponse("{\"data\":{},\"success\":false}");
         }
-        Map<String, String> params = new HashMap<>();
-        params.put("camId", cameraId);
-        params.put("keep", "true");
-        params.put("source", source);
-        return callApi(METHOD_MDPARAMSAVE, params);
+        return callApi(METHOD_MDPARAMSAVE, getSaveParams(cameraId, "source", source));
     }
 
     // Warning, absolute values are used
@@ -77,54 +84,77 @@ public class SynoApiCameraEvent extends SynoApiRequest<CameraEventResponse> {
         if (val < 1 || val > 99) {
             return new SimpleResponse("{\"data\":{},\"success\":false}");
         }
-        Map<String, String> params = new HashMap<>();
-        params.put("camId", cameraId);
-        params.put("keep", "true");
-        params.put("sensitivity", String.valueOf(val));
-        return callApi(METHOD_MDPARAMSAVE, params);
+        return callApi(METHOD_MDPARAMSAVE, getSaveParams(cameraId, "sensitivity", String.valueOf(val)));
     }
 
     public SimpleResponse setThreshold(String cameraId, int val) throws WebApiException {
         if (val < 1 || val > 99) {
             return new SimpleResponse("{\"data\":{},\"success\":false}");
         }
-        Map<String, String> params = new HashMap<>();
-        params.put("camId", cameraId);
-        params.put("keep", "true");
-        params.put("threshold", String.valueOf(val));
-        return callApi(METHOD_MDPARAMSAVE, params);
+        return callApi(METHOD_MDPARAMSAVE, getSaveParams(cameraId, "threshold", String.valueOf(val)));
     }
 
     public SimpleResponse setObjectSize(String cameraId, int val) throws WebApiException {
         if (val < 1 || val > 99) {
             return new SimpleResponse("{\"data\":{},\"success\":false}");
         }
-        Map<String, String> params = new HashMap<>();
-        params.put("camId", cameraId);
-        params.put("keep", "true");
-        params.put("objectSize", String.valueOf(val));
-        return callApi(METHOD_MDPARAMSAVE, params);
+        return callApi(METHOD_MDPARAMSAVE, getSaveParams(cameraId, "objectSize", String.valueOf(val)));
     }
 
     public SimpleResponse setPercentage(String cameraId, int val) throws WebApiException {
         if (val < 1 || val > 99) {
             return new SimpleResponse("{\"data\":{},\"success\":false}");
         }
-        Map<String, String> params = new HashMap<>();
-        params.put("camId", cameraId);
-        params.put("keep", "true");
-        params.put("percentage", String.valueOf(val));
-        return callApi(METHOD_MDPARAMSAVE, params);
+        return callApi(METHOD_MDPARAMSAVE, getSaveParams(cameraId, "percentage", String.valueOf(val)));
     }
 
     public SimpleResponse setShortLiveSecond(String cameraId, int val) throws WebApiException {
         if (val < 0 || val > 10) {
             return new SimpleResponse("{\"data\":{},\"success\":false}");
         }
-        Map<String, String> params = new HashMap<>();
-        params.put("camId", cameraId);
-        params.put("keep", "true");
-        params.put("shortLiveSecond", String.valueOf(val));
-        return callApi(METHOD_MDPARAMSAVE, params);
+        return callApi(METHOD_MDPARAMSAVE, getSaveParams(cameraId, "shortLiveSecond", String.valueOf(val)));
+    }
+
+    /**
+     * Save motion detection source asynchronously
+     *
+     * @param cameraId
+     * @param source -1:disable, 0:by camera, 1:by Surveillance Station
+     * @return
+     */
+    public CompletableFuture<? extends SimpleResponse> setSourceAsync(String cameraId, String source) {
+        if (!isValidSource(source)) {
+            return CompletableFuture.completedFuture(new SimpleResponse("{\"data\":{},\"success\":false}"));
+        }
+        return callApiAsync(METHOD_MDPARAMSAVE, getSaveParams(cameraId, "source", source));
+    }
+
+    /**
+     * Save a numeric motion detection parameter asynchronously
+     *
+     * @param cameraId
+     * @param param parameter name (sensitivity, threshold, objectSize, percentage, shortLiveSecond)
+     * @param val absolute value
+     * @return
+     */
+    public CompletableFuture<? extends SimpleResponse> setParamAsync(String cameraId, String param, int val) {
+        int min = param.equals("shortLiveSecond") ? 0 : 1;
+        int max = param.equals("shortLiveSecond") ? 10 : 99;
+        if (val < min || val > max) {
+            return CompletableFuture.completedFuture(new SimpleResponse("{\"data\":{},\"success\":false}"));
+        }
+        return callApiAsync(METHOD_MDPARAMSAVE, getSaveParams(cameraId, param, String.valueOf(val)));
+    }
+
+    private boolean isValidSource(String source) {
+        return source.equals("-1") || source.equals("0") || source.equals("1");
+    }
+
+    private SynoApiParams getSaveParams(String cameraId, String param, String value) {
+        SynoApiParams params = new SynoApiParams();
+        params.add("camId", cameraId);
+        params.add("keep", "true");
+        params.add(param, value);
+        return params;
     }
 }
@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi.request;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.HttpClient;
+import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.CompoundResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SynoApiResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * SYNO.Entry.Request
+ *
+ * This API executes several API calls with a single HTTP request. If the station does not support compound
+ * requests, the calls are sent separately.
+ *
+ * Method:
+ * - request
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SynoApiCompound extends SynoApiRequest<CompoundResponse> {
+    private final Logger logger = LoggerFactory.getLogger(SynoApiCompound.class);
+
+    // API Configuration
+    private static final String API_NAME = "SYNO.Entry.Request";
+    private static final SynoApiConfig API_CONFIG = new SynoApiConfig(API_NAME, API_VERSION_01, API_SCRIPT_ENTRY);
+
+    private volatile boolean supported = true;
+
+    /**
+     * @param config
+     */
+    public SynoApiCompound(SynoConfig config, HttpClient httpClient) {
+        super(API_CONFIG, config, httpClient, CompoundResponse::new);
+    }
+
+    /**
+     * @return a new empty compound request
+     */
+    public Builder newRequest() {
+        return new Builder();
+    }
+
+    /**
+     * @return if compound requests are supported by the station
+     */
+    public boolean isSupported() {
+        return supported;
+    }
+
+    /**
+     * Sends the calls with a single compound request, falls back to separate requests if not supported
+     *
+     * @param calls calls to send
+     */
+    private void send(List<Call<?>> calls) {
+        if (calls.isEmpty()) {
+            return;
+        } else if (calls.size() == 1 || !supported) {
+            calls.forEach(Call::sendSeparately);
+            return;
+        }
+
+        JsonArray compound = new JsonArray();
+        for (Call<?> call : calls) {
+            compound.add(call.toJson());
+        }
+        SynoApiParams params = new SynoApiParams();
+        params.add("mode", "sequential");
+        params.add("stop_when_error", API_FALSE);
+        params.add("compound", compound.toString());
+
+        List<CompoundResponse.ResultReader> readers = new ArrayList<>(calls.size());
+        for (Call<?> call : calls) {
+            readers.add(call::read);
+        }
+        callApiAsync(METHOD_REQUEST, params, reader -> new CompoundResponse(reader, readers))
+                .whenComplete((response, failure) -> {
+                    if (failure != null) {
+                        calls.forEach(call -> call.future.completeExceptionally(failure));
+                    } else if (!response.isSuccess()) {
+                        int errorCode = response.getErrorcode();
+                        if (errorCode == WebApiAuthErrorCodes.API_DOES_NOT_EXIST.getCode()
+                                || errorCode == WebApiAuthErrorCodes.METHOD_NOT_EXIST.getCode()
+                                || errorCode == WebApiAuthErrorCodes.API_VERSION_NOT_SUPPORTED.getCode()) {
+                            logger.debug("Compound requests not supported (error {}), sending calls separately",
+                                    errorCode);
+                            supported = false;
+                            calls.forEach(Call::sendSeparately);
+                        } else {
+                            WebApiException e = new WebApiException(WebApiAuthErrorCodes.getByCode(errorCode));
+                            calls.forEach(call -> call.future.completeExceptionally(e));
+                        }
+                    } else {
+                        calls.forEach(Call::complete);
+                    }
+                });
+    }
+
+    /**
+     * Collects calls for a compound request
+     */
+    public class Builder {
+        private final List<Call<?>> calls = new ArrayList<>();
+
+        /**
+         * Adds a call to this request
+         *
+         * @param call call to add
+         * @return future of the call's response, completed after {@link #send()}
+         */
+        public <R extends SynoApiResponse> CompletableFuture<R> add(Call<R> call) {
+            calls.add(call);
+            return call.future;
+        }
+
+        /**
+         * Sends all added calls
+         */
+        public void send() {
+            SynoApiCompound.this.send(new ArrayList<>(calls));
+            calls.clear();
+        }
+    }
+
+    /**
+     * A single API call of a compound request
+     *
+     * @param <R> response type of the API
+     */
+    public static class Call<R extends SynoApiResponse> {
+        private final SynoApiRequest<R> api;
+        private final String method;
+        private final SynoApiParams params;
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+        private @Nullable R result;
+
+        Call(SynoApiRequest<R> api, String method, SynoApiParams params) {
+            this.api = api;
+            this.method = method;
+            this.params = params;
+        }
+
+        private JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.addProperty("api", api.getApiConfig().getName());
+            json.addProperty("version", api.getApiConfig().getVersion());
+            json.addProperty("method", method);
+            params.forEach(json::addProperty);
+            return json;
+        }
+
+        private void sendSeparately() {
+            api.callApiAsync(method, params).whenComplete((response, failure) -> {
+                if (failure != null) {
+                    future.completeExceptionally(failure);
+                } else {
+                    future.complete(response);
+                }
+            });
+        }
+
+        /**
+         * Streams the result of this call from the compound response
+         */
+        private void read(JsonReader reader) throws IOException {
+            result = api.getResponseFactory().create(reader);
+        }
+
+        /**
+         * Completes the call with the result read from the compound response
+         */
+        private void complete() {
+            R response = result;
+            if (response == null) {
+                future.completeExceptionally(new WebApiException("Missing compound result for " + method));
+            } else if (!response.isSuccess() && WebApiAuthErrorCodes.isSessionError(response.getErrorcode())) {
+                // Sent separately, so the session is renewed
+                sendSeparately();
+            } else {
+                future.complete(response);
+            }
+        }
+    }
+}
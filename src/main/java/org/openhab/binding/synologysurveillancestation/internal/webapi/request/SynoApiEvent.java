@@ -12,16 +12,23 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi.request;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoEvent;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.EventResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * SYNO.SurveillanceStation.SynoApiEvent
@@ -37,11 +44,20 @@ public class SynoApiEvent extends SynoApiRequest<EventResponse> {
     private static final String API_NAME = "SYNO.SurveillanceStation.Event";
     private static final SynoApiConfig API_CONFIG = new SynoApiConfig(API_NAME, API_VERSION_05, API_SCRIPT_ENTRY);
 
+    // Number of events per page
+    private static final int EVENT_PAGE_LIMIT = 100;
+    // Maximum number of pages fetched per query, older events beyond are dropped
+    private static final int EVENT_PAGES = 10;
+    // Maximum number of events returned by a query
+    public static final int MAX_EVENTS = EVENT_PAGE_LIMIT * EVENT_PAGES;
+
+    private final Logger logger = LoggerFactory.getLogger(SynoApiEvent.class);
+
     /**
      * @param config
      */
     public SynoApiEvent(SynoConfig config, HttpClient httpClient) {
-        super(API_CONFIG, config, httpClient);
+        super(API_CONFIG, config, httpClient, EventResponse::new);
     }
 
     /**
@@ -51,23 +67,146 @@ public class SynoApiEvent extends SynoApiRequest<EventResponse> {
      * @throws WebApiException
      */
     public EventResponse getEventResponse(String cameraId, long lastEventTime, Map<String, SynoEvent> events) {
-        Map<String, String> params = new HashMap<>();
+        try {
+            return callApi(METHOD_LIST, getParams(cameraId, lastEventTime, getReasons(events)));
+        } catch (WebApiException e) {
+            return new EventResponse("{\"data\":{},\"success\":false}");
+        }
+    }
+
+    /**
+     * Get API events asynchronously
+     *
+     * @return
+     */
+    public CompletableFuture<EventResponse> getEventResponseAsync(String cameraId, long lastEventTime,
+            Map<String, SynoEvent> events) {
+        return getEventResponseAsync(Collections.singleton(cameraId), lastEventTime, getReasons(events));
+    }
+
+    /**
+     * Get API events of several cameras with a single query asynchronously. Bursts exceeding the page size are
+     * drained page by page and merged into one response.
+     *
+     * @param cameraIds
+     * @param fromTime
+     * @param reasons
+     * @return
+     */
+    public CompletableFuture<EventResponse> getEventResponseAsync(Collection<String> cameraIds, long fromTime,
+            Collection<Integer> reasons) {
+        return getPageAsync(getParams(String.join(",", cameraIds), fromTime, reasons), 0, null);
+    }
+
+    /**
+     * Get the first page of events of several cameras as part of a compound request. Further pages are fetched
+     * with {@link #getNextPagesAsync(Collection, long, Collection, EventResponse)}.
+     *
+     * @param cameraIds
+     * @param fromTime
+     * @param reasons
+     * @return
+     */
+    public SynoApiCompound.Call<EventResponse> getEventCall(Collection<String> cameraIds, long fromTime,
+            Collection<Integer> reasons) {
+        SynoApiParams params = getParams(String.join(",", cameraIds), fromTime, reasons);
+        params.add("offset", 0);
+        return compoundCall(METHOD_LIST, params);
+    }
+
+    /**
+     * Fetches the remaining pages of an event query if the first page was full
+     *
+     * @param cameraIds
+     * @param fromTime
+     * @param reasons
+     * @param firstPage first page of the query
+     * @return the merged response of all pages
+     */
+    public CompletableFuture<EventResponse> getNextPagesAsync(Collection<String> cameraIds, long fromTime,
+            Collection<Integer> reasons, EventResponse firstPage) {
+        SynoApiParams params = getParams(String.join(",", cameraIds), fromTime, reasons);
+        return getNextPageAsync(params, 0, firstPage, firstPage);
+    }
+
+    /**
+     * Fetches a page of the event list and all following pages
+     *
+     * @param params query parameters
+     * @param page page number
+     * @param previous merged response of the previous pages
+     * @return
+     */
+    private CompletableFuture<EventResponse> getPageAsync(SynoApiParams params, int page,
+            @Nullable EventResponse previous) {
+        SynoApiParams pageParams = params.copy();
+        pageParams.add("offset", page * EVENT_PAGE_LIMIT);
 
-        params.put("cameraIds", cameraId);
-        params.put("fromTime", String.valueOf(lastEventTime));
-        params.put("blIncludeSnapshot", API_FALSE);
-        params.put("limit", "25");
+        return callApiAsync(METHOD_LIST, pageParams).thenCompose(response -> {
+            EventResponse merged = response;
+            if (previous != null) {
+                if (!response.isSuccess()) {
+                    logger.debug("Event page {} could not be fetched, error {}", page, response.getErrorcode());
+                    return CompletableFuture.completedFuture(previous);
+                }
+                previous.merge(response);
+                merged = previous;
+            }
+            return getNextPageAsync(params, page, response, merged);
+        });
+    }
+
+    /**
+     * Fetches the next page until all events of the query are received or {@link #MAX_EVENTS} are reached. Events
+     * arriving meanwhile shift the list, so pages may overlap but no event is skipped.
+     *
+     * @param params query parameters
+     * @param page current page number
+     * @param response current page
+     * @param merged merged response of all pages so far
+     * @return
+     */
+    private CompletableFuture<EventResponse> getNextPageAsync(SynoApiParams params, int page,
+            EventResponse response, EventResponse merged) {
+        if (response.isSuccess() && response.getCount() >= EVENT_PAGE_LIMIT && merged.getCount() < response.getTotal()) {
+            if (page + 1 < EVENT_PAGES) {
+                return getPageAsync(params, page + 1, merged);
+            }
+            logger.debug("Event query limited to {} of {} events", merged.getCount(), response.getTotal());
+        }
+        return CompletableFuture.completedFuture(merged);
+    }
 
-        StringJoiner reasons = new StringJoiner(",");
+    /**
+     * @return reasons of the passed events
+     */
+    private List<Integer> getReasons(Map<String, SynoEvent> events) {
+        List<Integer> reasons = new ArrayList<>();
         for (SynoEvent event : events.values()) {
-            reasons.add(String.valueOf(event.getReason()));
+            reasons.add(event.getReason());
         }
-        params.put("reason", reasons.toString());
+        return reasons;
+    }
 
-        try {
-            return callApi(METHOD_LIST, params);
-        } catch (WebApiException e) {
-            return new EventResponse("{\"data\":{},\"success\":false}");
+    /**
+     * Creates the parameters for event list
+     *
+     * @return
+     */
+    private SynoApiParams getParams(String cameraIds, long fromTime, Collection<Integer> reasons) {
+        SynoApiParams params = new SynoApiParams();
+
+        params.add("cameraIds", cameraIds);
+        params.add("fromTime", fromTime);
+        params.add("blIncludeSnapshot", API_FALSE);
+        params.add("limit", EVENT_PAGE_LIMIT);
+
+        StringJoiner reasonList = new StringJoiner(",");
+        for (Integer reason : reasons) {
+            reasonList.add(String.valueOf(reason));
         }
+        params.add("reason", reasonList.toString());
+
+        return params;
     }
 }
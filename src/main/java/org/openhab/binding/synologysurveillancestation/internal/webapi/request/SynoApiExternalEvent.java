@@ -12,8 +12,7 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi.request;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.HttpClient;
@@ -43,7 +42,7 @@ public class SynoApiExternalEvent extends SynoApiRequest<CameraResponse> {
      * @param config
      */
     public SynoApiExternalEvent(SynoConfig config, HttpClient httpClient) {
-        super(API_CONFIG, config, httpClient);
+        super(API_CONFIG, config, httpClient, CameraResponse::new);
     }
 
     /**
@@ -54,11 +53,25 @@ public class SynoApiExternalEvent extends SynoApiRequest<CameraResponse> {
      * @throws WebApiException
      */
     public boolean triggerEvent(int event) throws WebApiException {
-        Map<String, String> params = new HashMap<>();
+        SynoApiParams params = new SynoApiParams();
 
         // API parameters
-        params.put("eventId", String.valueOf(event));
+        params.add("eventId", event);
         return callApi(METHOD_TRIGGER, params).isSuccess();
     }
 
+    /**
+     * Triggers the external event 1 to 10 asynchronously
+     *
+     * @param event External event to be triggered (1 to 10)
+     * @return
+     */
+    public CompletableFuture<Boolean> triggerEventAsync(int event) {
+        SynoApiParams params = new SynoApiParams();
+
+        // API parameters
+        params.add("eventId", event);
+        return callApiAsync(METHOD_TRIGGER, params).thenApply(response -> response.isSuccess());
+    }
+
 }
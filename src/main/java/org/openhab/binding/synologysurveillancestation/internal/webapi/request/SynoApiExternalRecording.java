@@ -12,8 +12,7 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi.request;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.HttpClient;
@@ -43,7 +42,7 @@ public class SynoApiExternalRecording extends SynoApiRequest<SimpleResponse> {
      * @param config
      */
     public SynoApiExternalRecording(SynoConfig config, HttpClient httpClient) {
-        super(API_CONFIG, config, httpClient);
+        super(API_CONFIG, config, httpClient, SimpleResponse::new);
     }
 
     /**
@@ -54,11 +53,11 @@ public class SynoApiExternalRecording extends SynoApiRequest<SimpleResponse> {
      * @throws WebApiException
      */
     private SimpleResponse call(String method, String cameraId, String action) throws WebApiException {
-        Map<String, String> params = new HashMap<>();
+        SynoApiParams params = new SynoApiParams();
 
         // API parameters
-        params.put("cameraId", cameraId);
-        params.put("action", action);
+        params.add("cameraId", cameraId);
+        params.add("action", action);
 
         return callApi(method, params);
     }
@@ -74,4 +73,21 @@ public class SynoApiExternalRecording extends SynoApiRequest<SimpleResponse> {
         return call(METHOD_RECORD, cameraId, on ? "start" : "stop");
     }
 
+    /**
+     * Toggle external recording of a camera asynchronously.
+     *
+     * @param cameraId
+     * @param on
+     * @return
+     */
+    public CompletableFuture<SimpleResponse> toggleRecordingAsync(String cameraId, boolean on) {
+        SynoApiParams params = new SynoApiParams();
+
+        // API parameters
+        params.add("cameraId", cameraId);
+        params.add("action", on ? "start" : "stop");
+
+        return callApiAsync(METHOD_RECORD, params);
+    }
+
 }
@@ -12,8 +12,7 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi.request;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.HttpClient;
@@ -38,7 +37,7 @@ public class SynoApiHomeMode extends SynoApiRequest<HomeModeResponse> {
      * @param config
      */
     public SynoApiHomeMode(SynoConfig config, HttpClient httpClient) {
-        super(API_CONFIG, config, httpClient);
+        super(API_CONFIG, config, httpClient, HomeModeResponse::new);
     }
 
     /**
@@ -49,13 +48,21 @@ public class SynoApiHomeMode extends SynoApiRequest<HomeModeResponse> {
      */
     public HomeModeResponse getHomeModeResponse() {
         try {
-            Map<String, String> params = new HashMap<>();
-            return callApi(METHOD_GETINFO, params);
+            return callApi(METHOD_GETINFO);
         } catch (WebApiException e) {
             return new HomeModeResponse("{\"data\":{},\"success\":false}");
         }
     }
 
+    /**
+     * Get Home Mode state asynchronously
+     *
+     * @return
+     */
+    public CompletableFuture<HomeModeResponse> getHomeModeResponseAsync() {
+        return callApiAsync(METHOD_GETINFO);
+    }
+
     /**
      *
      * @param mode
@@ -63,8 +70,20 @@ public class SynoApiHomeMode extends SynoApiRequest<HomeModeResponse> {
      * @throws WebApiException
      */
     public SimpleResponse setHomeMode(boolean mode) throws WebApiException {
-        Map<String, String> params = new HashMap<>();
-        params.put("on", mode ? "true" : "false");
+        SynoApiParams params = new SynoApiParams();
+        params.add("on", mode);
         return callApi(METHOD_SWITCH, params);
     }
+
+    /**
+     * Switch Home Mode asynchronously
+     *
+     * @param mode
+     * @return
+     */
+    public CompletableFuture<HomeModeResponse> setHomeModeAsync(boolean mode) {
+        SynoApiParams params = new SynoApiParams();
+        params.add("on", mode);
+        return callApiAsync(METHOD_SWITCH, params);
+    }
 }
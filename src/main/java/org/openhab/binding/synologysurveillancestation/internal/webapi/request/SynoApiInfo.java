@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi.request;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
@@ -42,7 +44,7 @@ public class SynoApiInfo extends SynoApiRequest<InfoResponse> {
      * @param config
      */
     public SynoApiInfo(SynoConfig config, HttpClient httpClient) {
-        super(API_CONFIG, config, httpClient);
+        super(API_CONFIG, config, httpClient, InfoResponse::new);
     }
 
     /**
@@ -60,4 +62,13 @@ public class SynoApiInfo extends SynoApiRequest<InfoResponse> {
 
         return response;
     }
+
+    /**
+     * Get Surveillance Station related general information asynchronously.
+     *
+     * @return
+     */
+    public CompletableFuture<InfoResponse> getInfoAsync() {
+        return callApiAsync(METHOD_GETINFO).thenApply(response -> requireSuccess(response));
+    }
 }
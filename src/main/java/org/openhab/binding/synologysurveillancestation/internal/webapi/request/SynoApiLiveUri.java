@@ -14,10 +14,16 @@ package org.openhab.binding.synologysurveillancestation.internal.webapi.request;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
@@ -28,6 +34,9 @@ import org.openhab.binding.synologysurveillancestation.internal.webapi.response.
  *
  * This API provides a set of methods to acquire camera live feed URIs
  *
+ * Live URIs rarely change, so they are cached per station. The cache is invalidated when the session or the
+ * configuration changes and for single cameras on request, missing entries of all known cameras are fetched
+ * with one request.
  *
  * @author Pavion - Initial contribution
  */
@@ -37,11 +46,21 @@ public class SynoApiLiveUri extends SynoApiRequest<LiveUriResponse> {
     private static final String API_NAME = "SYNO.SurveillanceStation.Camera";
     private static final SynoApiConfig API_CONFIG = new SynoApiConfig(API_NAME, API_VERSION_09, API_SCRIPT_ENTRY);
 
+    // Maximum age of cached live URIs in nanoseconds
+    private static final long LIVE_URI_TTL = TimeUnit.HOURS.toNanos(1);
+
+    // Cache state, guarded by this
+    private final Map<String, CachedLiveUri> cache = new HashMap<>();
+    private final Set<String> cameraIds = new LinkedHashSet<>();
+    private Set<String> pendingIds = Collections.emptySet();
+    private @Nullable CompletableFuture<LiveUriResponse> pending;
+    private long generation;
+
     /**
      * @param config
      */
     public SynoApiLiveUri(SynoConfig config, HttpClient httpClient) {
-        super(API_CONFIG, config, httpClient);
+        super(API_CONFIG, config, httpClient, LiveUriResponse::new);
     }
 
     /**
@@ -54,10 +73,165 @@ public class SynoApiLiveUri extends SynoApiRequest<LiveUriResponse> {
      *
      */
     public LiveUriResponse getLiveUriResponse(String cameraId) throws WebApiException {
-        Map<String, String> params = new HashMap<>();
-        params.put("idList", cameraId);
+        SynoApiParams params = new SynoApiParams();
+        params.add("idList", cameraId);
 
         return callApi(METHOD_LIVEVIEWPATH, params);
     }
 
+    /**
+     * Get live URIs of the selected camera's live feed asynchronously
+     *
+     * @param cameraId
+     * @return
+     */
+    public CompletableFuture<LiveUriResponse> getLiveUriResponseAsync(String cameraId) {
+        SynoApiParams params = new SynoApiParams();
+        params.add("idList", cameraId);
+
+        return callApiAsync(METHOD_LIVEVIEWPATH, params);
+    }
+
+    /**
+     * Get live URIs of the selected camera from the cache. On a miss the URIs of all known cameras are fetched
+     * with one request, concurrent misses share that request.
+     *
+     * @param cameraId
+     * @return future completed with a response containing the camera's URIs
+     */
+    public CompletableFuture<LiveUriResponse> getCachedLiveUriResponseAsync(String cameraId) {
+        CompletableFuture<LiveUriResponse> batch;
+        long gen;
+        boolean alone;
+        synchronized (this) {
+            CachedLiveUri cached = cache.get(cameraId);
+            if (cached != null && System.nanoTime() - cached.time < LIVE_URI_TTL) {
+                return CompletableFuture.completedFuture(cached.response);
+            }
+            cameraIds.add(cameraId);
+            gen = generation;
+            CompletableFuture<LiveUriResponse> current = pending;
+            Set<String> ids = pendingIds;
+            if (current == null || !ids.contains(cameraId)) {
+                ids = new LinkedHashSet<>(cameraIds);
+                current = fetch(ids);
+            }
+            batch = current;
+            alone = ids.size() == 1;
+        }
+        if (alone) {
+            return batch;
+        }
+        // A camera missing in or failing the batch is fetched on its own
+        return batch.thenCompose(response -> response.isSuccess() && response.hasCamera(cameraId)
+                ? CompletableFuture.completedFuture(response)
+                : getLiveUriResponseAsync(cameraId).thenApply(own -> {
+                    store(Collections.singleton(cameraId), own, gen);
+                    return own;
+                }));
+    }
+
+    /**
+     * Starts a request for the live URIs of the given cameras, called with the lock held
+     */
+    private CompletableFuture<LiveUriResponse> fetch(Set<String> ids) {
+        long gen = generation;
+        SynoApiParams params = new SynoApiParams();
+        params.add("idList", String.join(",", ids));
+
+        // Registered before the request is sent, so a request failing synchronously cannot leave a stale entry
+        CompletableFuture<LiveUriResponse> future = new CompletableFuture<>();
+        pending = future;
+        pendingIds = ids;
+        future.whenComplete((response, failure) -> {
+            synchronized (this) {
+                if (pending == future) {
+                    pending = null;
+                    pendingIds = Collections.emptySet();
+                }
+            }
+        });
+
+        callApiAsync(METHOD_LIVEVIEWPATH, params).whenComplete((response, failure) -> {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                store(ids, response, gen);
+                future.complete(response);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Caches a successful response for the requested cameras unless the cache was invalidated meanwhile
+     */
+    private synchronized void store(Set<String> ids, LiveUriResponse response, long gen) {
+        if (gen != generation) {
+            return;
+        }
+        if (!response.isSuccess()) {
+            if (ids.size() == 1) {
+                // Do not batch a camera which cannot be queried
+                cameraIds.removeAll(ids);
+            }
+            return;
+        }
+        long now = System.nanoTime();
+        for (String id : ids) {
+            if (ids.size() == 1 || response.hasCamera(id)) {
+                cache.put(id, new CachedLiveUri(response, now));
+            }
+        }
+    }
+
+    /**
+     * Drops the cached live URIs of a camera, e.g. after its stream configuration changed
+     *
+     * @param cameraId
+     */
+    public synchronized void invalidate(String cameraId) {
+        cache.remove(cameraId);
+        cameraIds.remove(cameraId);
+        generation++;
+    }
+
+    /**
+     * Drops all cached live URIs
+     */
+    public synchronized void invalidateAll() {
+        cache.clear();
+        pending = null;
+        pendingIds = Collections.emptySet();
+        generation++;
+    }
+
+    @Override
+    public void setConfig(SynoConfig config) {
+        super.setConfig(config);
+        invalidateAll();
+    }
+
+    @Override
+    public void setSessionId(String sessionId) {
+        boolean changed = !sessionId.equals(getSessionId());
+        super.setSessionId(sessionId);
+        if (changed) {
+            // Live URIs contain the session ID
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Cached response with its fetch time
+     */
+    private static class CachedLiveUri {
+        private final LiveUriResponse response;
+        private final long time;
+
+        CachedLiveUri(LiveUriResponse response, long time) {
+            this.response = response;
+            this.time = time;
+        }
+    }
 }
@@ -14,10 +14,10 @@ package org.openhab.binding.synologysurveillancestation.internal.webapi.request;
 
 import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.*;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
@@ -59,7 +59,7 @@ public class SynoApiPTZ extends SynoApiRequest<SimpleResponse> {
      * @param config
      */
     public SynoApiPTZ(SynoConfig config, HttpClient httpClient) {
-        super(API_CONFIG, config, httpClient);
+        super(API_CONFIG, config, httpClient, SimpleResponse::new);
     }
 
     /**
@@ -71,83 +71,88 @@ public class SynoApiPTZ extends SynoApiRequest<SimpleResponse> {
      * @throws WebApiException
      */
     public void execute(String cameraId, String method, String command) throws WebApiException {
+        PtzCall call = getPtzCall(cameraId, method, command);
+        if (call != null) {
+            callApi(call.method, call.params);
+        }
+    }
+
+    /**
+     * Execute the given PTZ method for the passed camera asynchronously.
+     *
+     * @param cameraId
+     * @param method
+     * @param command
+     * @return
+     */
+    public CompletableFuture<SimpleResponse> executeAsync(String cameraId, String method, String command) {
+        try {
+            PtzCall call = getPtzCall(cameraId, method, command);
+            if (call == null) {
+                return CompletableFuture.completedFuture(new SimpleResponse("{\"data\":{},\"success\":false}"));
+            }
+            return callApiAsync(call.method, call.params);
+        } catch (WebApiException e) {
+            return failedFuture(e);
+        }
+    }
+
+    /**
+     * Maps a channel command to the API call.
+     *
+     * @param cameraId
+     * @param method
+     * @param command
+     * @return API call or null for unknown commands
+     * @throws WebApiException
+     */
+    private @Nullable PtzCall getPtzCall(String cameraId, String method, String command) throws WebApiException {
         switch (method) {
             case CHANNEL_ZOOM:
                 switch (command) {
                     case "IN":
-                        zoomIn(cameraId, MOVE_COMMAND_EMPTY);
-                        break;
+                        return zoomCall(cameraId, "in", MOVE_COMMAND_EMPTY);
                     case "OUT":
-                        zoomOut(cameraId, MOVE_COMMAND_EMPTY);
-                        break;
+                        return zoomCall(cameraId, "out", MOVE_COMMAND_EMPTY);
                     // START
                     case "START_IN":
-                        zoomIn(cameraId, MOVE_COMMAND_START);
-                        break;
+                        return zoomCall(cameraId, "in", MOVE_COMMAND_START);
                     case "START_OUT":
-                        zoomIn(cameraId, MOVE_COMMAND_START);
-                        break;
+                        return zoomCall(cameraId, "out", MOVE_COMMAND_START);
                     // STOP
                     case "STOP_IN":
-                        zoomOut(cameraId, MOVE_COMMAND_STOP);
-                        break;
                     case "STOP_OUT":
-                        zoomOut(cameraId, MOVE_COMMAND_STOP);
-                        break;
+                        return zoomCall(cameraId, "out", MOVE_COMMAND_STOP);
                 }
                 break;
             case CHANNEL_MOVE:
                 switch (command) {
                     case "UP":
-                        moveUp(cameraId, MOVE_COMMAND_EMPTY);
-                        break;
                     case "DOWN":
-                        moveDown(cameraId, MOVE_COMMAND_EMPTY);
-                        break;
                     case "LEFT":
-                        moveLeft(cameraId, MOVE_COMMAND_EMPTY);
-                        break;
                     case "RIGHT":
-                        moveRight(cameraId, MOVE_COMMAND_EMPTY);
-                        break;
                     case "HOME":
-                        moveHome(cameraId, MOVE_COMMAND_EMPTY);
-                        break;
+                        return moveCall(cameraId, command.toLowerCase(), 1, MOVE_COMMAND_EMPTY);
                     // START
                     case "START_UP":
-                        moveUp(cameraId, MOVE_COMMAND_START);
-                        break;
                     case "START_DOWN":
-                        moveDown(cameraId, MOVE_COMMAND_START);
-                        break;
                     case "START_LEFT":
-                        moveLeft(cameraId, MOVE_COMMAND_START);
-                        break;
                     case "START_RIGHT":
-                        moveRight(cameraId, MOVE_COMMAND_START);
-                        break;
                     case "START_HOME":
-                        moveHome(cameraId, MOVE_COMMAND_START);
-                        // STOP
+                        return moveCall(cameraId, command.substring(6).toLowerCase(), 1, MOVE_COMMAND_START);
+                    // STOP
                     case "STOP_UP":
-                        moveUp(cameraId, MOVE_COMMAND_STOP);
-                        break;
                     case "STOP_DOWN":
-                        moveDown(cameraId, MOVE_COMMAND_STOP);
-                        break;
                     case "STOP_LEFT":
-                        moveLeft(cameraId, MOVE_COMMAND_STOP);
-                        break;
                     case "STOP_RIGHT":
-                        moveRight(cameraId, MOVE_COMMAND_STOP);
-                        break;
                     case "STOP_HOME":
-                        moveHome(cameraId, MOVE_COMMAND_STOP);
+                        return moveCall(cameraId, command.substring(5).toLowerCase(), 1, MOVE_COMMAND_STOP);
                 }
                 break;
             default:
                 break;
         }
+        return null;
     }
 
     /**
@@ -160,20 +165,34 @@ public class SynoApiPTZ extends SynoApiRequest<SimpleResponse> {
      * @throws WebApiException
      */
     private SimpleResponse callZoom(String cameraId, String control, String moveType) throws WebApiException {
-        Map<String, String> params = new HashMap<>();
+        PtzCall call = zoomCall(cameraId, control, moveType);
+        return callApi(call.method, call.params);
+    }
+
+    /**
+     * builds api method 'zoom' with passed control
+     *
+     * @param cameraId
+     * @param control
+     * @param moveType
+     * @return
+     * @throws WebApiException
+     */
+    private PtzCall zoomCall(String cameraId, String control, String moveType) throws WebApiException {
+        SynoApiParams params = new SynoApiParams();
 
         // API parameters
-        params.put("cameraId", cameraId);
-        params.put("control", control);
+        params.add("cameraId", cameraId);
+        params.add("control", control);
         if (!moveType.equals(MOVE_COMMAND_EMPTY)) {
             Integer version = Integer.parseInt(API_CONFIG.getVersion());
             if (version < 3) {
                 throw new WebApiException(WebApiAuthErrorCodes.API_VERSION_NOT_SUPPORTED);
             }
-            params.put("moveType", moveType);
+            params.add("moveType", moveType);
         }
 
-        return callApi(METHOD_ZOOM, params);
+        return new PtzCall(METHOD_ZOOM, params);
     }
 
     /**
@@ -188,21 +207,36 @@ public class SynoApiPTZ extends SynoApiRequest<SimpleResponse> {
      */
     private SimpleResponse callMove(String cameraId, String direction, int speed, String moveType)
             throws WebApiException {
-        Map<String, String> params = new HashMap<>();
+        PtzCall call = moveCall(cameraId, direction, speed, moveType);
+        return callApi(call.method, call.params);
+    }
+
+    /**
+     * builds api method 'move' with passed direction and speed
+     *
+     * @param cameraId
+     * @param direction
+     * @param speed
+     * @param moveType
+     * @return
+     * @throws WebApiException
+     */
+    private PtzCall moveCall(String cameraId, String direction, int speed, String moveType) throws WebApiException {
+        SynoApiParams params = new SynoApiParams();
 
         // API Parameters
-        params.put("cameraId", cameraId);
-        params.put("direction", direction);
-        params.put("speed", String.valueOf(speed));
+        params.add("cameraId", cameraId);
+        params.add("direction", direction);
+        params.add("speed", speed);
         if (!moveType.equals(MOVE_COMMAND_EMPTY)) {
             Integer version = Integer.parseInt(API_CONFIG.getVersion());
             if (version < 3) {
                 throw new WebApiException(WebApiAuthErrorCodes.API_VERSION_NOT_SUPPORTED);
             }
-            params.put("moveType", moveType);
+            params.add("moveType", moveType);
         }
 
-        return callApi(METHOD_MOVE, params);
+        return new PtzCall(METHOD_MOVE, params);
     }
 
     /**
@@ -290,16 +324,31 @@ public class SynoApiPTZ extends SynoApiRequest<SimpleResponse> {
      * @throws WebApiException
      */
     public SimpleResponse listPresets(String cameraId) throws WebApiException {
-        Map<String, String> params = new HashMap<>();
+        SynoApiParams params = new SynoApiParams();
 
         // API Parameters
-        params.put("cameraId", cameraId);
+        params.add("cameraId", cameraId);
 
         SimpleResponse response = callApi(METHOD_LISTPRESET, params);
 
         return response;
     }
 
+    /**
+     * calls api method 'ListPreset' asynchronously.
+     *
+     * @param cameraId
+     * @return
+     */
+    public CompletableFuture<SimpleResponse> listPresetsAsync(String cameraId) {
+        SynoApiParams params = new SynoApiParams();
+
+        // API Parameters
+        params.add("cameraId", cameraId);
+
+        return callApiAsync(METHOD_LISTPRESET, params);
+    }
+
     /**
      * calls api method 'GoPreset' and move the camera lens to a pre-defined preset position.
      *
@@ -309,21 +358,38 @@ public class SynoApiPTZ extends SynoApiRequest<SimpleResponse> {
      * @throws WebApiException
      */
     public SimpleResponse goPreset(String cameraId, String presetId) throws WebApiException {
-        Map<String, String> params = new HashMap<>();
+        SynoApiParams params = new SynoApiParams();
 
         // API Parameters
-        params.put("cameraId", cameraId);
-        params.put("presetId", presetId);
-        // params.put("position", ???);
-        // params.put("speed", ???);
-        // params.put("type", ???);
-        // params.put("isPatrol", ???);
+        params.add("cameraId", cameraId);
+        params.add("presetId", presetId);
+        // params.add("position", ???);
+        // params.add("speed", ???);
+        // params.add("type", ???);
+        // params.add("isPatrol", ???);
 
         SimpleResponse response = callApi(METHOD_GOPRESET, params);
 
         return response;
     }
 
+    /**
+     * calls api method 'GoPreset' asynchronously.
+     *
+     * @param cameraId
+     * @param presetId
+     * @return
+     */
+    public CompletableFuture<SimpleResponse> goPresetAsync(String cameraId, String presetId) {
+        SynoApiParams params = new SynoApiParams();
+
+        // API Parameters
+        params.add("cameraId", cameraId);
+        params.add("presetId", presetId);
+
+        return callApiAsync(METHOD_GOPRESET, params);
+    }
+
     /**
      * calls api method 'ListPatrol' and list all patrols.
      *
@@ -332,16 +398,31 @@ public class SynoApiPTZ extends SynoApiRequest<SimpleResponse> {
      * @throws WebApiException
      */
     public SimpleResponse listPatrol(String cameraId) throws WebApiException {
-        Map<String, String> params = new HashMap<>();
+        SynoApiParams params = new SynoApiParams();
 
         // API Parameters
-        params.put("cameraId", cameraId);
+        params.add("cameraId", cameraId);
 
         SimpleResponse response = callApi(METHOD_LISTPATROL, params);
 
         return response;
     }
 
+    /**
+     * calls api method 'ListPatrol' asynchronously.
+     *
+     * @param cameraId
+     * @return
+     */
+    public CompletableFuture<SimpleResponse> listPatrolAsync(String cameraId) {
+        SynoApiParams params = new SynoApiParams();
+
+        // API Parameters
+        params.add("cameraId", cameraId);
+
+        return callApiAsync(METHOD_LISTPATROL, params);
+    }
+
     /**
      * calls api method 'RunPatrol' and execute the given patrol.
      *
@@ -351,15 +432,45 @@ public class SynoApiPTZ extends SynoApiRequest<SimpleResponse> {
      * @throws WebApiException
      */
     public SimpleResponse runPatrol(String cameraId, String patrolId) throws WebApiException {
-        Map<String, String> params = new HashMap<>();
+        SynoApiParams params = new SynoApiParams();
 
         // API Parameters
-        params.put("cameraId", cameraId);
-        params.put("patrolId", patrolId);
+        params.add("cameraId", cameraId);
+        params.add("patrolId", patrolId);
 
         SimpleResponse response = callApi(METHOD_RUNPATROL, params);
 
         return response;
     }
 
+    /**
+     * calls api method 'RunPatrol' asynchronously.
+     *
+     * @param cameraId
+     * @param patrolId
+     * @return
+     */
+    public CompletableFuture<SimpleResponse> runPatrolAsync(String cameraId, String patrolId) {
+        SynoApiParams params = new SynoApiParams();
+
+        // API Parameters
+        params.add("cameraId", cameraId);
+        params.add("patrolId", patrolId);
+
+        return callApiAsync(METHOD_RUNPATROL, params);
+    }
+
+    /**
+     * PTZ API method with its parameters
+     */
+    private static class PtzCall {
+        private final String method;
+        private final SynoApiParams params;
+
+        PtzCall(String method, SynoApiParams params) {
+            this.method = method;
+            this.params = params;
+        }
+    }
+
 }
@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi.request;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link SynoApiParams} is a lightweight ordered list of API request parameters. Names and values are kept in
+ * one flat array, so building the parameters of a request allocates no map entries.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SynoApiParams {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * Shared empty parameters, adding to them fails
+     */
+    public static final SynoApiParams EMPTY = new SynoApiParams(1, true);
+
+    private String[] entries;
+    private int size;
+    private final boolean readOnly;
+
+    public SynoApiParams() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity expected number of parameters
+     */
+    public SynoApiParams(int capacity) {
+        this(capacity, false);
+    }
+
+    private SynoApiParams(int capacity, boolean readOnly) {
+        entries = new String[Math.max(1, capacity) * 2];
+        this.readOnly = readOnly;
+    }
+
+    private SynoApiParams(SynoApiParams other) {
+        entries = Arrays.copyOf(other.entries, other.entries.length);
+        size = other.size;
+        readOnly = false;
+    }
+
+    /**
+     * Adds a parameter
+     *
+     * @param name
+     * @param value
+     * @return this
+     * @throws UnsupportedOperationException if these are the shared {@link #EMPTY} parameters
+     */
+    public SynoApiParams add(String name, String value) {
+        checkWritable();
+        if (size * 2 == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        }
+        entries[size * 2] = name;
+        entries[size * 2 + 1] = value;
+        size++;
+        return this;
+    }
+
+    /**
+     * Adds a numeric parameter
+     *
+     * @param name
+     * @param value
+     * @return this
+     */
+    public SynoApiParams add(String name, long value) {
+        return add(name, String.valueOf(value));
+    }
+
+    /**
+     * Adds a boolean parameter
+     *
+     * @param name
+     * @param value
+     * @return this
+     */
+    public SynoApiParams add(String name, boolean value) {
+        return add(name, value ? SynoApiRequest.API_TRUE : SynoApiRequest.API_FALSE);
+    }
+
+    /**
+     * Replaces the value of a parameter or adds it if not present
+     *
+     * @param name
+     * @param value
+     * @return this
+     */
+    public SynoApiParams set(String name, String value) {
+        checkWritable();
+        for (int i = 0; i < size; i++) {
+            if (entries[i * 2].equals(name)) {
+                entries[i * 2 + 1] = value;
+                return this;
+            }
+        }
+        return add(name, value);
+    }
+
+    /**
+     * @param name
+     * @return the value of the parameter or null if not present
+     */
+    public @Nullable String get(String name) {
+        for (int i = 0; i < size; i++) {
+            if (entries[i * 2].equals(name)) {
+                return entries[i * 2 + 1];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param name
+     * @return if the parameter is present
+     */
+    public boolean contains(String name) {
+        return get(name) != null;
+    }
+
+    /**
+     * @return number of parameters
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return if there are no parameters
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Passes all parameters in insertion order
+     *
+     * @param action
+     */
+    public void forEach(BiConsumer<String, String> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(entries[i * 2], entries[i * 2 + 1]);
+        }
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("Shared empty parameters cannot be modified");
+        }
+    }
+
+    /**
+     * @return an independent, modifiable copy of these parameters
+     */
+    public SynoApiParams copy() {
+        return new SynoApiParams(this);
+    }
+
+}
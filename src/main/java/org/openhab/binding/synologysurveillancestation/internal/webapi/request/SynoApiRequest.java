@@ -12,30 +12,41 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi.request;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.ParameterizedType;
-import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.HashMap;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Result;
+import org.eclipse.jetty.client.util.BufferingResponseListener;
 import org.eclipse.jetty.util.URIUtil;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SynoApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+
 /**
  * API request
  *
@@ -51,25 +62,54 @@ public abstract class SynoApiRequest<T extends SynoApiResponse> implements SynoA
     protected static final String API_TRUE = Boolean.TRUE.toString();
     protected static final String API_FALSE = Boolean.FALSE.toString();
 
+    // Total timeout of requests in seconds
+    private static final int REQUEST_TIMEOUT = 30;
+    // Maximum time to wait for a session renewal in seconds
+    private static final int RENEWAL_TIMEOUT = 30;
+
     private final SynoApiConfig apiConfig;
     private final HttpClient httpClient;
-    private SynoConfig config;
-    private String sessionId = "";
+    private volatile SynoConfig config;
+    private volatile String sessionId = "";
+    private volatile @Nullable Endpoint endpoint;
+    private volatile @Nullable SynoApiRequestLimiter requestLimiter;
+    private volatile @Nullable SessionRenewer sessionRenewer;
+
+    private final ResponseFactory<T> responseFactory;
+
+    /**
+     * Creates the response object of an API from a streamed response
+     *
+     * @param <T> response type
+     */
+    @FunctionalInterface
+    public interface ResponseFactory<T extends SynoApiResponse> {
+        T create(JsonReader reader) throws IOException;
+    }
 
-    final Class<T> typeParameterClass;
+    /**
+     * Renews an expired session, concurrent callers share the same renewal
+     */
+    @FunctionalInterface
+    public interface SessionRenewer {
+        /**
+         * @param expiredSessionId session the request failed with
+         * @return future completed with the new session id
+         */
+        CompletableFuture<String> renew(String expiredSessionId);
+    }
 
     /**
      * @param apiConfig
      * @param config
-     * @param sessionId
+     * @param httpClient
+     * @param responseFactory creates the response objects of this API
      */
-    @SuppressWarnings({ "unchecked", "rawtypes" })
-    public SynoApiRequest(SynoApiConfig apiConfig, SynoConfig config, HttpClient httpClient) {
+    public SynoApiRequest(SynoApiConfig apiConfig, SynoConfig config, HttpClient httpClient,
+            ResponseFactory<T> responseFactory) {
         super();
 
-        this.typeParameterClass = ((Class) ((ParameterizedType) getClass().getGenericSuperclass())
-                .getActualTypeArguments()[0]);
-
+        this.responseFactory = responseFactory;
         this.httpClient = httpClient;
         this.apiConfig = apiConfig;
         this.config = config;
@@ -93,18 +133,23 @@ public abstract class SynoApiRequest<T extends SynoApiResponse> implements SynoA
     }
 
     /**
-     * @return
+     * Sets the configuration, the endpoint is rebuilt with the next request
+     *
+     * @param config
      */
     public void setConfig(SynoConfig config) {
         this.config = config;
+        this.endpoint = null;
     }
 
     /**
+     * Sets the session, the endpoint is rebuilt with the next request
      *
      * @param sessionId
      */
     public void setSessionId(String sessionId) {
         this.sessionId = sessionId;
+        this.endpoint = null;
     }
 
     /**
@@ -115,16 +160,55 @@ public abstract class SynoApiRequest<T extends SynoApiResponse> implements SynoA
     }
 
     /**
-     * Creates an URIBuilder to build the url.
+     * Sets the limiter shared by all API instances of a station
+     *
+     * @param requestLimiter
+     */
+    public void setRequestLimiter(SynoApiRequestLimiter requestLimiter) {
+        this.requestLimiter = requestLimiter;
+    }
+
+    /**
+     * Sets the renewer of expired sessions, requests failing with a session error are sent again once with the
+     * renewed session. Without a renewer session errors are returned to the caller.
+     *
+     * @param sessionRenewer
+     */
+    public void setSessionRenewer(SessionRenewer sessionRenewer) {
+        this.sessionRenewer = sessionRenewer;
+    }
+
+    /**
+     * @return the limiter shared by all API instances of a station
+     * @throws IllegalStateException if no limiter was set
+     */
+    protected SynoApiRequestLimiter getRequestLimiter() {
+        SynoApiRequestLimiter limiter = requestLimiter;
+        if (limiter == null) {
+            throw new IllegalStateException("No request limiter set for " + getClass().getSimpleName());
+        }
+        return limiter;
+    }
+
+    /**
+     * Returns the endpoint of this API, built once per configuration and session
      *
      * @return
+     * @throws WebApiException if the configured address is invalid
      */
-    protected URI getWebApiUrlBuilder() throws URISyntaxException {
-        StringBuilder sb = URIUtil.newURIBuilder(getConfig().getProtocol(), getConfig().getHost(),
-                Integer.parseInt(getConfig().getPort()));
-        URI uri = new URI(sb.toString());
-        uri = URIUtil.addPath(uri, apiConfig.getScriptpath());
-        return uri;
+    private Endpoint getEndpoint() throws WebApiException {
+        SynoConfig currentConfig = config;
+        String currentSessionId = sessionId;
+        Endpoint current = endpoint;
+        if (current == null || current.config != currentConfig || current.sessionId != currentSessionId) {
+            try {
+                current = new Endpoint(currentConfig, currentSessionId, apiConfig);
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                throw new WebApiException(e);
+            }
+            endpoint = current;
+        }
+        return current;
     }
 
     /**
@@ -135,7 +219,7 @@ public abstract class SynoApiRequest<T extends SynoApiResponse> implements SynoA
      * @throws WebApiException
      */
     protected T callApi(String method) throws WebApiException {
-        return callApi(method, new HashMap<>());
+        return callApi(method, SynoApiParams.EMPTY);
     }
 
     /**
@@ -146,9 +230,49 @@ public abstract class SynoApiRequest<T extends SynoApiResponse> implements SynoA
      * @return
      * @throws WebApiException
      */
-    protected T callApi(String method, Map<String, String> params) throws WebApiException {
-        Request request = getWebApiUrl(method, params);
-        return callWebApi(request);
+    protected T callApi(String method, SynoApiParams params) throws WebApiException {
+        Endpoint current = getEndpoint();
+        T response = callWebApi(newRequest(current, method, params));
+        if (!response.isSuccess() && WebApiAuthErrorCodes.isSessionError(response.getErrorcode())
+                && renewSession(current.sessionId)) {
+            logger.debug("Session expired (error {}), sending {} again with renewed session",
+                    response.getErrorcode(), method);
+            response = callWebApi(getWebApiUrl(method, params));
+        }
+        return response;
+    }
+
+    /**
+     * Waits for the renewal of an expired session
+     *
+     * @param expiredSessionId
+     * @return if the session was renewed, false if this API has no renewer
+     * @throws WebApiException if the session could not be renewed
+     */
+    protected boolean renewSession(String expiredSessionId) throws WebApiException {
+        SessionRenewer renewer = sessionRenewer;
+        if (renewer == null) {
+            return false;
+        }
+        try {
+            renewer.renew(expiredSessionId).get(RENEWAL_TIMEOUT, TimeUnit.SECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebApiException(e);
+        } catch (ExecutionException e) {
+            throw WebApiException.fromFailure(e);
+        } catch (TimeoutException e) {
+            throw new WebApiException(e);
+        }
+    }
+
+    /**
+     * @return the session id requests are currently sent with
+     */
+    protected String getRequestSessionId() {
+        Endpoint current = endpoint;
+        return current == null ? sessionId : current.sessionId;
     }
 
     /**
@@ -157,36 +281,102 @@ public abstract class SynoApiRequest<T extends SynoApiResponse> implements SynoA
      * @param method
      * @param params
      * @return
-     * @throws MalformedURLException
-     * @throws URISyntaxException
+     * @throws WebApiException
      */
-    protected Request getWebApiUrl(String method, Map<String, String> params) throws WebApiException {
-        try {
-            URI uri = getWebApiUrlBuilder();
+    protected Request getWebApiUrl(String method, SynoApiParams params) throws WebApiException {
+        return newRequest(getEndpoint(), method, params);
+    }
 
-            Request request = httpClient.newRequest(uri);
+    /**
+     * Creates the request of the method at the passed endpoint
+     *
+     * @param current
+     * @param method
+     * @param params
+     * @return
+     */
+    private Request newRequest(Endpoint current, String method, SynoApiParams params) {
+        // API data and method are pre-encoded per endpoint, only the call's own parameters are encoded here
+        StringBuilder uri = new StringBuilder(256);
+        uri.append(current.getPrefix(method));
+
+        // API session, unless passed explicitly
+        if (!params.contains("_sid")) {
+            uri.append(current.sessionParam);
+        }
 
-            // API data
-            request.param("api", apiConfig.getName());
-            request.param("version", apiConfig.getVersion());
+        params.forEach((name, value) -> uri.append('&').append(encode(name)).append('=').append(encode(value)));
 
-            // API method
-            request.param("method", method);
+        return httpClient.newRequest(uri.toString());
+    }
 
-            // API session
-            request.param("_sid", getSessionId());
+    /**
+     * Encodes a query parameter name or value
+     *
+     * @param value
+     * @return
+     */
+    static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
-            if (!params.isEmpty()) {
-                for (String key : params.keySet()) {
-                    request.param(key, params.get(key));
-                }
-            }
+    /**
+     * Calls the method asynchronously.
+     *
+     * @param method
+     * @return future completed with the response or a {@link WebApiException}
+     */
+    protected CompletableFuture<T> callApiAsync(String method) {
+        return callApiAsync(method, SynoApiParams.EMPTY);
+    }
 
-            return request;
+    /**
+     * Calls the method with the passed parameters asynchronously.
+     *
+     * @param method
+     * @param params
+     * @return future completed with the response or a {@link WebApiException}
+     */
+    protected CompletableFuture<T> callApiAsync(String method, SynoApiParams params) {
+        return callApiAsync(method, params, responseFactory);
+    }
 
-        } catch (URISyntaxException | UnsupportedOperationException e) {
-            throw new WebApiException(e);
+    /**
+     * Calls the method with the passed parameters asynchronously, the response is created by the passed factory.
+     *
+     * @param method
+     * @param params
+     * @param factory creates the response object
+     * @return future completed with the response or a {@link WebApiException}
+     */
+    protected <R extends SynoApiResponse> CompletableFuture<R> callApiAsync(String method, SynoApiParams params,
+            ResponseFactory<R> factory) {
+        Endpoint current;
+        try {
+            current = getEndpoint();
+        } catch (WebApiException e) {
+            return failedFuture(e);
         }
+        return callWebApiAsync(newRequest(current, method, params), factory).thenCompose(response -> {
+            SessionRenewer renewer = sessionRenewer;
+            if (renewer == null || response.isSuccess()
+                    || !WebApiAuthErrorCodes.isSessionError(response.getErrorcode())) {
+                return CompletableFuture.completedFuture(response);
+            }
+            logger.debug("Session expired (error {}), sending {} again with renewed session",
+                    response.getErrorcode(), method);
+            return renewer.renew(current.sessionId).thenCompose(sid -> {
+                try {
+                    return callWebApiAsync(getWebApiUrl(method, params), factory);
+                } catch (WebApiException e) {
+                    return failedFuture(e);
+                }
+            });
+        });
     }
 
     /**
@@ -199,45 +389,202 @@ public abstract class SynoApiRequest<T extends SynoApiResponse> implements SynoA
      * @throws UnsupportedOperationException
      * @throws IOException
      */
-    protected synchronized T callWebApi(Request request) throws WebApiException {
+    protected T callWebApi(Request request) throws WebApiException {
+        SynoApiRequestLimiter limiter = getRequestLimiter();
+        limiter.acquire();
         try {
             if (logger.isDebugEnabled()) {
                 logger.debug("URI: {}", request.getURI().toString());
             }
-            ContentResponse response = request.send();
-
-            if (response.getStatus() == 200) {
-                byte[] rawResponse = response.getContent();
-                String encoding = response.getEncoding().replaceAll("\"", "").trim();
-                String result = new String(rawResponse, encoding);
-
-                if (result.length() > 0) {
-                    if (result.contains("\"success\":true")) {
-                        logger.debug("RESPONSE: {}", result);
-                    } else {
-                        logger.error("RESPONSE: {}", result);
-                    }
+            ContentResponse response = request.timeout(REQUEST_TIMEOUT, TimeUnit.SECONDS).send();
 
-                }
+            return createResponse(response.getStatus(), response.getContent(), response.getEncoding(),
+                    responseFactory);
 
-                Constructor<T> ctor = typeParameterClass.getConstructor(String.class);
+        } catch (ExecutionException | TimeoutException | InterruptedException e) {
+            throw new WebApiException(e);
+        } finally {
+            limiter.release();
+        }
 
-                T vo = ctor.newInstance(new Object[] { result });
+    }
 
-                return vo;
+    /**
+     * Sends the request without blocking the calling thread. The request is started as soon as the station's
+     * request limiter has a free slot, the response is parsed on the HTTP client's thread.
+     *
+     * @param request
+     * @return future completed with the response or a {@link WebApiException}
+     */
+    protected CompletableFuture<T> callWebApiAsync(Request request) {
+        return callWebApiAsync(request, responseFactory);
+    }
+
+    /**
+     * Sends the request without blocking the calling thread, the response is created by the passed factory.
+     *
+     * @param request
+     * @param factory creates the response object
+     * @return future completed with the response or a {@link WebApiException}
+     */
+    private <R extends SynoApiResponse> CompletableFuture<R> callWebApiAsync(Request request,
+            ResponseFactory<R> factory) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        SynoApiRequestLimiter limiter = getRequestLimiter();
+        limiter.execute(() -> {
+            try {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("URI: {}", request.getURI().toString());
+                }
+                request.timeout(REQUEST_TIMEOUT, TimeUnit.SECONDS).send(new BufferingResponseListener() {
+                    @Override
+                    public void onComplete(@Nullable Result result) {
+                        limiter.release();
+                        if (result == null || result.isFailed()) {
+                            Throwable failure = result == null ? null : result.getFailure();
+                            future.completeExceptionally(failure == null ? new WebApiException("Request failed")
+                                    : new WebApiException(failure));
+                            return;
+                        }
+                        try {
+                            future.complete(createResponse(result.getResponse().getStatus(), getContent(),
+                                    getEncoding(), factory));
+                        } catch (WebApiException e) {
+                            future.completeExceptionally(e);
+                        }
+                    }
+                });
+            } catch (RuntimeException e) {
+                limiter.release();
+                future.completeExceptionally(new WebApiException(e));
+            }
+        }, future::completeExceptionally);
+        return future;
+    }
 
+    /**
+     * Creates the response object from raw response data. The content is streamed into the response object
+     * without decoding it into a string first.
+     *
+     * @param status HTTP status
+     * @param rawResponse response content
+     * @param encoding response encoding, UTF-8 if not set
+     * @param factory creates the response object
+     * @return
+     * @throws WebApiException
+     */
+    private <R extends SynoApiResponse> R createResponse(int status, byte[] rawResponse, @Nullable String encoding,
+            ResponseFactory<R> factory) throws WebApiException {
+        if (status != 200) {
+            throw new WebApiException("Error calling Surveillance Station WebApi!");
+        }
+        try {
+            String charset = encoding == null ? StandardCharsets.UTF_8.name() : encoding.replaceAll("\"", "").trim();
+            R vo = createResponse(new InputStreamReader(new ByteArrayInputStream(rawResponse), charset), factory);
+
+            if (vo.isSuccess()) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("RESPONSE: {}", new String(rawResponse, charset));
+                }
             } else {
-                throw new WebApiException("Error calling Surveillance Station WebApi!");
+                logger.error("RESPONSE: {}", new String(rawResponse, charset));
             }
 
-        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
-                | NoSuchMethodException | SecurityException | ExecutionException | TimeoutException
-                | InterruptedException e) {
-            throw new WebApiException(e);
+            return vo;
+
         } catch (UnsupportedEncodingException ee) {
             throw new WebApiException(ee);
         }
+    }
+
+    /**
+     * @return the factory creating the response objects of this API
+     */
+    ResponseFactory<T> getResponseFactory() {
+        return responseFactory;
+    }
+
+    /**
+     * Creates the response object with the passed factory
+     *
+     * @param jsonResponse
+     * @param factory
+     * @return
+     * @throws WebApiException if the response is no valid JSON
+     */
+    private <R extends SynoApiResponse> R createResponse(Reader jsonResponse, ResponseFactory<R> factory)
+            throws WebApiException {
+        try {
+            return factory.create(new JsonReader(jsonResponse));
+        } catch (IOException | JsonParseException | IllegalStateException | NumberFormatException e) {
+            throw new WebApiException("Invalid response from Surveillance Station WebApi", e);
+        }
+    }
+
+    /**
+     * Creates a call of the method for a compound request
+     *
+     * @param method
+     * @param params
+     * @return
+     */
+    protected SynoApiCompound.Call<T> compoundCall(String method, SynoApiParams params) {
+        return new SynoApiCompound.Call<>(this, method, params);
+    }
 
+    /**
+     * Returns a future completed exceptionally with the passed exception
+     *
+     * @param e
+     * @return
+     */
+    public static <R> CompletableFuture<R> failedFuture(Throwable e) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+        return future;
     }
 
+    /**
+     * Fails the future with the API error if the response was not successful
+     *
+     * @param response
+     * @return the successful response
+     */
+    protected static <R extends SynoApiResponse> R requireSuccess(R response) {
+        if (!response.isSuccess()) {
+            throw new CompletionException(new WebApiException(WebApiAuthErrorCodes.getByCode(response.getErrorcode())));
+        }
+        return response;
+    }
+
+    /**
+     * Immutable base address and static parameters of an API for one configuration and session. The query prefix
+     * of each method is encoded once and reused for all its requests.
+     */
+    private static class Endpoint {
+        private final SynoConfig config;
+        private final String sessionId;
+        private final String apiPrefix;
+        private final String sessionParam;
+        private final Map<String, String> methodPrefixes = new ConcurrentHashMap<>();
+
+        Endpoint(SynoConfig config, String sessionId, SynoApiConfig apiConfig) throws URISyntaxException {
+            this.config = config;
+            this.sessionId = sessionId;
+            StringBuilder sb = URIUtil.newURIBuilder(config.getProtocol(), config.getHost(),
+                    Integer.parseInt(config.getPort()));
+            URI uri = URIUtil.addPath(new URI(sb.toString()), apiConfig.getScriptpath());
+            this.apiPrefix = uri + "?api=" + encode(apiConfig.getName()) + "&version="
+                    + encode(apiConfig.getVersion());
+            this.sessionParam = "&_sid=" + encode(sessionId);
+        }
+
+        /**
+         * @param method
+         * @return encoded URI and query with API data and method
+         */
+        String getPrefix(String method) {
+            return methodPrefixes.computeIfAbsent(method, m -> apiPrefix + "&method=" + encode(m));
+        }
+    }
 }
@@ -0,0 +1,293 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi.request;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
+
+/**
+ * The {@link SynoApiRequestLimiter} limits the number of requests in flight to one Surveillance Station.
+ * It is shared by all API instances of a bridge and collects contention statistics.
+ *
+ * Blocking callers wait for a free slot, asynchronous callers are queued and started on the executor as soon as a
+ * slot is released, so no thread is parked while the station is saturated and no request is started on the thread
+ * completing the previous one. The queue is bounded and queued requests fail after {@link #ACQUIRE_TIMEOUT}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SynoApiRequestLimiter {
+
+    public static final int DEFAULT_MAX_REQUESTS = 4;
+
+    // Maximum time to wait for a free request slot in seconds
+    public static final int ACQUIRE_TIMEOUT = 30;
+    // Maximum number of queued asynchronous requests
+    public static final int MAX_QUEUED = 256;
+
+    private final ResizableSemaphore permits;
+    private final Queue<PendingTask> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private volatile int maxRequests;
+    private final ScheduledExecutorService executor;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder contended = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private volatile long lastCompleted = System.nanoTime();
+
+    /**
+     * @param maxRequests maximum number of concurrent requests
+     * @param executor executor starting queued requests and expiring them
+     */
+    public SynoApiRequestLimiter(int maxRequests, ScheduledExecutorService executor) {
+        this.maxRequests = Math.max(1, maxRequests);
+        this.executor = executor;
+        this.permits = new ResizableSemaphore(this.maxRequests);
+    }
+
+    /**
+     * Changes the maximum number of concurrent requests. Requests already in flight are not affected.
+     *
+     * @param maxRequests new maximum
+     */
+    public synchronized void setMaxRequests(int maxRequests) {
+        int newMax = Math.max(1, maxRequests);
+        int delta = newMax - this.maxRequests;
+        if (delta > 0) {
+            permits.release(delta);
+        } else if (delta < 0) {
+            permits.reducePermits(-delta);
+        }
+        this.maxRequests = newMax;
+        drain();
+    }
+
+    /**
+     * @return the maximum number of concurrent requests
+     */
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    /**
+     * Acquires a request slot, waiting if the station is saturated.
+     *
+     * @throws WebApiException if no slot could be acquired in time
+     */
+    public void acquire() throws WebApiException {
+        requests.increment();
+        if (!permits.tryAcquire()) {
+            contended.increment();
+            long start = System.nanoTime();
+            try {
+                boolean acquired = permits.tryAcquire(ACQUIRE_TIMEOUT, TimeUnit.SECONDS);
+                waitNanos.add(System.nanoTime() - start);
+                if (!acquired) {
+                    throw new WebApiException(new TimeoutException("No free request slot available"));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebApiException(e);
+            }
+        }
+        started();
+    }
+
+    /**
+     * Runs the task as soon as a request slot is available, without blocking the calling thread. A task run at once
+     * runs on the calling thread, a queued one on the executor. The task takes ownership of the slot and has to
+     * {@link #release()} it when the request completes.
+     *
+     * @param task task starting the request
+     * @param onRejected called instead of the task if the queue is full or no slot was free in time
+     */
+    public void execute(Runnable task, Consumer<WebApiException> onRejected) {
+        requests.increment();
+        if (pending.isEmpty() && permits.tryAcquire()) {
+            started();
+            task.run();
+            return;
+        }
+        contended.increment();
+        if (queued.incrementAndGet() > MAX_QUEUED) {
+            queued.decrementAndGet();
+            onRejected.accept(new WebApiException(new RejectedExecutionException("Request queue full")));
+            return;
+        }
+        PendingTask pendingTask = new PendingTask(task, onRejected);
+        pending.add(pendingTask);
+        try {
+            pendingTask.timeout = executor.schedule(() -> expire(pendingTask), ACQUIRE_TIMEOUT, TimeUnit.SECONDS);
+        } catch (RejectedExecutionException e) {
+            // expired when reaching the head of the queue
+        }
+        drain();
+    }
+
+    /**
+     * Releases a previously acquired request slot.
+     */
+    public void release() {
+        lastCompleted = System.nanoTime();
+        inFlight.decrementAndGet();
+        permits.release();
+        drain();
+    }
+
+    /**
+     * Hands queued tasks to the executor while request slots are available, tasks waiting too long are rejected
+     */
+    private void drain() {
+        while (!pending.isEmpty() && permits.tryAcquire()) {
+            PendingTask next = pending.poll();
+            if (next == null) {
+                permits.release();
+                continue;
+            }
+            queued.decrementAndGet();
+            long waited = System.nanoTime() - next.queued;
+            ScheduledFuture<?> timeout = next.timeout;
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+            if (waited > TimeUnit.SECONDS.toNanos(ACQUIRE_TIMEOUT)) {
+                permits.release();
+                next.reject();
+                continue;
+            }
+            waitNanos.add(waited);
+            started();
+            try {
+                executor.execute(next.task);
+            } catch (RejectedExecutionException e) {
+                inFlight.decrementAndGet();
+                permits.release();
+                next.onRejected.accept(new WebApiException(e));
+            }
+        }
+    }
+
+    /**
+     * Rejects a task still queued after {@link #ACQUIRE_TIMEOUT}
+     */
+    private void expire(PendingTask task) {
+        if (pending.remove(task)) {
+            queued.decrementAndGet();
+            task.reject();
+        }
+    }
+
+    private void started() {
+        int current = inFlight.incrementAndGet();
+        peakInFlight.accumulateAndGet(current, Math::max);
+    }
+
+    /**
+     * @return number of asynchronous requests waiting for a free slot
+     */
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    /**
+     * @return number of requests passed through this limiter
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * @return number of requests which had to wait for a free slot
+     */
+    public long getContendedCount() {
+        return contended.sum();
+    }
+
+    /**
+     * @return accumulated waiting time in milliseconds
+     */
+    public long getWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos.sum());
+    }
+
+    /**
+     * @return time since the last request completed in milliseconds
+     */
+    public long getIdleMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastCompleted);
+    }
+
+    /**
+     * @return the highest number of concurrent requests seen
+     */
+    public int getPeakInFlight() {
+        return peakInFlight.get();
+    }
+
+    @Override
+    public String toString() {
+        return "requests=" + getRequestCount() + ", contended=" + getContendedCount() + ", wait=" + getWaitMillis()
+                + " ms, peak=" + getPeakInFlight() + "/" + maxRequests + ", queued=" + getQueuedCount();
+    }
+
+    /**
+     * Queued asynchronous request
+     */
+    private static class PendingTask {
+        private final Runnable task;
+        private final Consumer<WebApiException> onRejected;
+        private final long queued = System.nanoTime();
+        private volatile @Nullable ScheduledFuture<?> timeout;
+
+        PendingTask(Runnable task, Consumer<WebApiException> onRejected) {
+            this.task = task;
+            this.onRejected = onRejected;
+        }
+
+        void reject() {
+            onRejected.accept(new WebApiException(new TimeoutException("No free request slot available")));
+        }
+    }
+
+    /**
+     * Semaphore with shrinkable permit count
+     */
+    private static class ResizableSemaphore extends Semaphore {
+        private static final long serialVersionUID = 1L;
+
+        ResizableSemaphore(int permits) {
+            super(permits);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
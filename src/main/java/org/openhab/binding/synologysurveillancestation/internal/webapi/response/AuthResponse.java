@@ -12,9 +12,13 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi.response;
 
+import java.io.IOException;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThread;
 
+import com.google.gson.stream.JsonReader;
+
 /**
  * {@link SynoApiThread} handles authentication response
  *
@@ -24,18 +28,43 @@ import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiTh
 @NonNullByDefault
 public class AuthResponse extends SimpleResponse {
 
+    private String sid = "";
+
     /**
      * @param jsonResponse
      */
     public AuthResponse(String jsonResponse) {
-        super(jsonResponse);
+        super();
+        parse(jsonResponse);
+    }
+
+    /**
+     * @param reader
+     * @throws IOException
+     */
+    public AuthResponse(JsonReader reader) throws IOException {
+        super();
+        parse(reader);
+    }
+
+    @Override
+    protected void readData(JsonReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("sid")) {
+                sid = nextString(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
     }
 
     /**
      * @return Session ID
      */
     public String getSid() {
-        return getData().get("sid").getAsString();
+        return sid;
     }
 
 }
@@ -12,9 +12,12 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi.response;
 
+import java.io.IOException;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 /**
  * {@link CameraEventResponse} is a response for camera information
@@ -31,6 +34,14 @@ public class CameraEventResponse extends SimpleResponse {
         super(jsonResponse);
     }
 
+    /**
+     * @param reader
+     * @throws IOException
+     */
+    public CameraEventResponse(JsonReader reader) throws IOException {
+        super(reader);
+    }
+
     /**
      * Returns motion detection parameter as Json Object
      *
@@ -14,15 +14,17 @@ package org.openhab.binding.synologysurveillancestation.internal.webapi.response
 
 import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.DEVICE_ID;
 
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * {@link CameraResponse} is a response for camera information
@@ -55,16 +57,125 @@ public class CameraResponse extends SimpleResponse {
     // 0x200: Zoom speed
     private static final int BIT_PTZ_ZOOM_SPEED = 10;
 
+    private Map<String, CameraResponseObject> cameras = Collections.emptyMap();
+
     /**
      * @param jsonResponse
      */
     public CameraResponse(String jsonResponse) {
-        super(jsonResponse);
+        super();
+        parse(jsonResponse);
+    }
+
+    /**
+     * @param reader
+     * @throws IOException
+     */
+    public CameraResponse(JsonReader reader) throws IOException {
+        super();
+        parse(reader);
+    }
+
+    @Override
+    protected void readData(JsonReader reader) throws IOException {
+        Map<String, CameraResponseObject> parsed = new LinkedHashMap<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("cameras") && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                        CameraResponseObject camera = readCamera(reader);
+                        parsed.put(camera.getId(), camera);
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        cameras = Collections.unmodifiableMap(parsed);
+    }
+
+    /**
+     * Reads the used fields of a camera, all others (stream info and so on) are skipped
+     */
+    private CameraResponseObject readCamera(JsonReader reader) throws IOException {
+        String id = "";
+        String name = "";
+        boolean enabled = false;
+        int recStatus = 0;
+        int ptzCap = 0;
+        String vendor = "";
+        String model = "";
+        String deviceType = "";
+        String host = "";
+        String resolution = "";
+        String type = "";
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    id = nextString(reader);
+                    break;
+                case "name":
+                    name = nextString(reader);
+                    break;
+                case "enabled":
+                    enabled = reader.nextBoolean();
+                    break;
+                case "recStatus":
+                    recStatus = reader.nextInt();
+                    break;
+                case "ptzCap":
+                    ptzCap = reader.nextInt();
+                    break;
+                case PROP_VENDOR:
+                    vendor = nextString(reader);
+                    break;
+                case PROP_MODEL:
+                    model = nextString(reader);
+                    break;
+                case PROP_DEVICETYPE:
+                    deviceType = nextString(reader);
+                    break;
+                case PROP_HOST:
+                    host = nextString(reader);
+                    break;
+                case PROP_RESOLUTION:
+                    resolution = nextString(reader);
+                    break;
+                case PROP_TYPE:
+                    type = nextString(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        return new CameraResponseObject(id, name, enabled, recStatus, ptzCap, vendor, model, deviceType, host,
+                resolution, type);
     }
 
-    @Nullable
-    public JsonArray getCameras() {
-        return getData().getAsJsonArray("cameras");
+    /**
+     * @return all cameras of this response
+     */
+    public Collection<CameraResponseObject> getCameras() {
+        return cameras.values();
+    }
+
+    /**
+     * @param cameraId
+     * @return the camera or null if not part of this response
+     */
+    public @Nullable CameraResponseObject getCamera(String cameraId) {
+        return cameras.get(cameraId);
     }
 
     /**
@@ -73,15 +184,8 @@ public class CameraResponse extends SimpleResponse {
      * @param cameraId
      */
     public boolean isEnabled(String cameraId) {
-        for (JsonElement jcamera : getCameras()) {
-            if (jcamera.isJsonObject()) {
-                JsonObject camera = jcamera.getAsJsonObject();
-                if (camera.get("id").getAsString().equals(cameraId)) {
-                    return camera.get("enabled").getAsBoolean();
-                }
-            }
-        }
-        return false;
+        CameraResponseObject camera = cameras.get(cameraId);
+        return camera != null && camera.isEnabled();
     }
 
     /**
@@ -90,15 +194,8 @@ public class CameraResponse extends SimpleResponse {
      * @param cameraId
      */
     public boolean isRecording(String cameraId) {
-        for (JsonElement jcamera : getCameras()) {
-            if (jcamera.isJsonObject()) {
-                JsonObject camera = jcamera.getAsJsonObject();
-                if (camera.get("id").getAsString().equals(cameraId)) {
-                    return (camera.get("recStatus").getAsInt() > 0);
-                }
-            }
-        }
-        return false;
+        CameraResponseObject camera = cameras.get(cameraId);
+        return camera != null && camera.isRecording();
     }
 
     /**
@@ -108,20 +205,11 @@ public class CameraResponse extends SimpleResponse {
      * @return
      */
     public Map<String, Object> getCameraProperties(String cameraId) {
-        JsonArray cameras = this.getCameras().getAsJsonArray();
-
-        for (JsonElement camera : cameras) {
-            if (camera.isJsonObject()) {
-                JsonObject cam = camera.getAsJsonObject();
-
-                String id = cam.get("id").getAsString();
-
-                if (cameraId.equals(id)) {
-                    return createProperties(cam, cameraId);
-                }
-            }
+        CameraResponseObject camera = cameras.get(cameraId);
+        if (camera == null) {
+            return new LinkedHashMap<>();
         }
-        return new LinkedHashMap<>();
+        return createProperties(camera, cameraId);
     }
 
     /**
@@ -131,19 +219,19 @@ public class CameraResponse extends SimpleResponse {
      * @param cameraId
      * @return
      */
-    private Map<String, Object> createProperties(JsonObject cam, String cameraId) {
+    private Map<String, Object> createProperties(CameraResponseObject cam, String cameraId) {
         Map<String, Object> properties = new LinkedHashMap<>();
 
         properties.put(DEVICE_ID, cameraId);
-        properties.put(SynoApiResponse.PROP_VENDOR, cam.get(SynoApiResponse.PROP_VENDOR).getAsString());
-        properties.put(SynoApiResponse.PROP_MODEL, cam.get(SynoApiResponse.PROP_MODEL).getAsString());
-        properties.put(SynoApiResponse.PROP_DEVICETYPE, cam.get(SynoApiResponse.PROP_DEVICETYPE).getAsString());
-        properties.put(SynoApiResponse.PROP_HOST, cam.get(SynoApiResponse.PROP_HOST).getAsString());
-        properties.put(SynoApiResponse.PROP_RESOLUTION, cam.get(SynoApiResponse.PROP_RESOLUTION).getAsString());
-        properties.put(SynoApiResponse.PROP_TYPE, cam.get(SynoApiResponse.PROP_TYPE).getAsString());
+        properties.put(SynoApiResponse.PROP_VENDOR, cam.getVendor());
+        properties.put(SynoApiResponse.PROP_MODEL, cam.getModel());
+        properties.put(SynoApiResponse.PROP_DEVICETYPE, cam.getDeviceType());
+        properties.put(SynoApiResponse.PROP_HOST, cam.getHost());
+        properties.put(SynoApiResponse.PROP_RESOLUTION, cam.getResolution());
+        properties.put(SynoApiResponse.PROP_TYPE, cam.getType());
 
         // check PTZ capabilities
-        int ptzCap = cam.get("ptzCap").getAsInt();
+        int ptzCap = cam.getPtzCap();
         properties.put(SynoApiResponse.PROP_PTZ, (ptzCap > 0) ? "true" : "false");
 
         if (ptzCap > 0) {
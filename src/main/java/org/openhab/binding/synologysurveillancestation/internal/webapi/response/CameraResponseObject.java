@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi.response;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * {@link CameraResponseObject} is an immutable camera entry of a camera response
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class CameraResponseObject {
+
+    private final String id;
+    private final String name;
+    private final boolean enabled;
+    private final int recStatus;
+    private final int ptzCap;
+    private final String vendor;
+    private final String model;
+    private final String deviceType;
+    private final String host;
+    private final String resolution;
+    private final String type;
+
+    /**
+     * Constructor
+     */
+    public CameraResponseObject(String id, String name, boolean enabled, int recStatus, int ptzCap, String vendor,
+            String model, String deviceType, String host, String resolution, String type) {
+        this.id = id;
+        this.name = name;
+        this.enabled = enabled;
+        this.recStatus = recStatus;
+        this.ptzCap = ptzCap;
+        this.vendor = vendor;
+        this.model = model;
+        this.deviceType = deviceType;
+        this.host = host;
+        this.resolution = resolution;
+        this.type = type;
+    }
+
+    /**
+     * @return the camera id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return the camera name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return if the camera is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the recording status
+     */
+    public int getRecStatus() {
+        return recStatus;
+    }
+
+    /**
+     * @return if the camera is recording
+     */
+    public boolean isRecording() {
+        return recStatus > 0;
+    }
+
+    /**
+     * @return the PTZ capabilities
+     */
+    public int getPtzCap() {
+        return ptzCap;
+    }
+
+    /**
+     * @return the vendor
+     */
+    public String getVendor() {
+        return vendor;
+    }
+
+    /**
+     * @return the model
+     */
+    public String getModel() {
+        return model;
+    }
+
+    /**
+     * @return the device type
+     */
+    public String getDeviceType() {
+        return deviceType;
+    }
+
+    /**
+     * @return the host
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return the resolution
+     */
+    public String getResolution() {
+        return resolution;
+    }
+
+    /**
+     * @return the type
+     */
+    public String getType() {
+        return type;
+    }
+
+}
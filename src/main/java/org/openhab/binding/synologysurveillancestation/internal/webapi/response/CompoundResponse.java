@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi.response;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * {@link CompoundResponse} is a response of a compound request. The results of the included calls are streamed
+ * to the readers of the calls in request order, without building a tree of the response.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class CompoundResponse extends SimpleResponse {
+
+    private final List<? extends ResultReader> readers;
+    private int resultCount = 0;
+
+    /**
+     * Reads the result of a single call (success, data, error)
+     */
+    @FunctionalInterface
+    public interface ResultReader {
+        /**
+         * @param reader reader positioned at the result object, which has to be consumed completely
+         * @throws IOException
+         */
+        void read(JsonReader reader) throws IOException;
+    }
+
+    /**
+     * Constructs the response skipping all results
+     *
+     * @param reader
+     * @throws IOException
+     */
+    public CompoundResponse(JsonReader reader) throws IOException {
+        this(reader, Collections.emptyList());
+    }
+
+    /**
+     * @param reader
+     * @param readers readers of the results, in the order of the calls
+     * @throws IOException
+     */
+    public CompoundResponse(JsonReader reader, List<? extends ResultReader> readers) throws IOException {
+        super();
+        this.readers = readers;
+        parse(reader);
+    }
+
+    @Override
+    protected void readData(JsonReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("result") && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                readResults(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
+    /**
+     * Passes each result object to the reader of its call, results without a call are skipped
+     */
+    private void readResults(JsonReader reader) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (resultCount < readers.size() && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                readers.get(resultCount).read(reader);
+            } else {
+                reader.skipValue();
+            }
+            resultCount++;
+        }
+        reader.endArray();
+    }
+
+    /**
+     * @return number of included responses
+     */
+    public int getResultCount() {
+        return resultCount;
+    }
+
+}
@@ -12,26 +12,32 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi.response;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoEvent;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
- * {@link EventResponse} is a response with current events
+ * {@link EventResponse} is a response with current events of one or more cameras
  *
  * @author Pavion - Initial contribution
  */
 @NonNullByDefault
 public class EventResponse extends SimpleResponse {
-    private static final int EVENT_POLL_OVERHEAD = 30;
 
-    private Map<Integer, SynoEvent> synoEvents = new HashMap<>();
+    // Events per camera, newest first
+    private final Map<String, List<SynoEvent>> synoEvents = new HashMap<>();
+    private int total = -1;
+    private int count = 0;
     private long timestamp = 0;
 
     /**
@@ -40,44 +46,160 @@ public class EventResponse extends SimpleResponse {
      * @param jsonResponse
      */
     public EventResponse(String jsonResponse) {
-        super(jsonResponse);
-        if (isSuccess()) {
-            JsonArray events = getData().getAsJsonArray("events");
-            timestamp = getData().getAsJsonObject().get("timestamp").getAsLong() - EVENT_POLL_OVERHEAD;
-            for (JsonElement event : events) {
-                if (event.isJsonObject()) {
-                    JsonObject cam = event.getAsJsonObject();
-                    int reason = cam.get("reason").getAsInt();
-                    if (!hasEvent(reason)) {
-                        long starttime = cam.get("startTime").getAsLong();
-                        long eventId = cam.get("eventId").getAsLong();
-                        boolean eventCompleted = cam.get("is_complete").getAsBoolean();
-                        synoEvents.put(reason, new SynoEvent(eventId, eventCompleted, reason));
-                        if (!eventCompleted && starttime < timestamp) {
-                            timestamp = starttime;
+        super();
+        parse(jsonResponse);
+    }
+
+    /**
+     * Constructs SynoEvents from a streamed response.
+     *
+     * @param reader
+     * @throws IOException
+     */
+    public EventResponse(JsonReader reader) throws IOException {
+        super();
+        parse(reader);
+    }
+
+    @Override
+    protected void readData(JsonReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "events":
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                            readEvent(reader);
+                        } else {
+                            reader.skipValue();
                         }
                     }
-                }
+                    reader.endArray();
+                    break;
+                case "total":
+                    total = reader.nextInt();
+                    break;
+                case "timestamp":
+                    timestamp = parseTimestamp(nextString(reader));
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        if (total < 0) {
+            total = count;
+        }
+    }
+
+    /**
+     * @return server time in seconds, 0 if missing or invalid
+     */
+    private static long parseTimestamp(String value) {
+        try {
+            return value.isEmpty() ? 0 : Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Reads a single event, events are listed from newest to oldest
+     */
+    private void readEvent(JsonReader reader) throws IOException {
+        String cameraId = "";
+        int reason = 0;
+        long starttime = 0;
+        long stoptime = 0;
+        long eventId = 0;
+        boolean eventCompleted = true;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "camera_id":
+                    cameraId = nextString(reader);
+                    break;
+                case "cameraId":
+                    if (cameraId.isEmpty()) {
+                        cameraId = nextString(reader);
+                    } else {
+                        reader.skipValue();
+                    }
+                    break;
+                case "reason":
+                    reason = reader.nextInt();
+                    break;
+                case "startTime":
+                    starttime = reader.nextLong();
+                    break;
+                case "stopTime":
+                    stoptime = reader.nextLong();
+                    break;
+                case "eventId":
+                    eventId = reader.nextLong();
+                    break;
+                case "is_complete":
+                    eventCompleted = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
             }
         }
+        reader.endObject();
+
+        count++;
+        synoEvents.computeIfAbsent(cameraId, k -> new ArrayList<>())
+                .add(new SynoEvent(eventId, eventCompleted, reason, starttime, stoptime));
+    }
+
+    /**
+     * Merges the next (older) page of the same event query into this response, the server time of the first page
+     * is kept
+     *
+     * @param page next page
+     */
+    public void merge(EventResponse page) {
+        for (Map.Entry<String, List<SynoEvent>> camera : page.synoEvents.entrySet()) {
+            synoEvents.computeIfAbsent(camera.getKey(), k -> new ArrayList<>()).addAll(camera.getValue());
+        }
+        count += page.count;
+    }
+
+    /**
+     * @return events of the camera, newest first
+     */
+    public List<SynoEvent> getEvents(String cameraId) {
+        List<SynoEvent> events = synoEvents.get(cameraId);
+        return events == null ? Collections.emptyList() : events;
+    }
+
+    /**
+     * @return IDs of all cameras with events in this response
+     */
+    public Set<String> getCameraIds() {
+        return synoEvents.keySet();
     }
 
     /**
-     * @return if the event with specified reason exists
+     * @return total number of events matching the query
      */
-    public boolean hasEvent(int eventReason) {
-        return synoEvents.containsKey(eventReason);
+    public int getTotal() {
+        return total;
     }
 
     /**
-     * @return the event with specified reason
+     * @return number of events received so far
      */
-    public SynoEvent getEvent(int eventReason) {
-        return synoEvents.get(eventReason);
+    public int getCount() {
+        return count;
     }
 
     /**
-     * @return the timestamp
+     * @return time of the query on the server in seconds since epoch, 0 if not reported
      */
     public long getTimestamp() {
         return timestamp;
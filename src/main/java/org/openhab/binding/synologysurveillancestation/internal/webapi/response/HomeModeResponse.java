@@ -12,8 +12,13 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi.response;
 
+import java.io.IOException;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
 /**
  * {@link HomeModeResponse} provides response for Home Mode
  *
@@ -21,22 +26,51 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
  */
 @NonNullByDefault
 public class HomeModeResponse extends SimpleResponse {
+    private boolean homeMode = false;
+    private int reason = 0;
+
     /**
      * @param jsonResponse
      */
     public HomeModeResponse(String jsonResponse) {
-        super(jsonResponse);
+        super();
+        parse(jsonResponse);
+    }
+
+    /**
+     * @param reader
+     * @throws IOException
+     */
+    public HomeModeResponse(JsonReader reader) throws IOException {
+        super();
+        parse(reader);
+    }
+
+    @Override
+    protected void readData(JsonReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (name.equals("on") && reader.peek() == JsonToken.BOOLEAN) {
+                homeMode = reader.nextBoolean();
+            } else if (name.equals("reason") && reader.peek() == JsonToken.NUMBER) {
+                reason = reader.nextInt();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
     }
 
     /**
      * @return
      */
     public boolean isHomeMode() {
-        return getData().get("on").getAsBoolean();
+        return homeMode;
     }
 
     public int getReason() {
-        return getData().get("reason").getAsInt();
+        return reason;
     }
 
 }
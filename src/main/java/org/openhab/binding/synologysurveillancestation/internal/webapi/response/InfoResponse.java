@@ -12,9 +12,12 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi.response;
 
+import java.io.IOException;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
 import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
 
 /**
  * {@link InfoResponse} provides information about current camera setup
@@ -32,6 +35,14 @@ public class InfoResponse extends SimpleResponse {
         super(jsonResponse);
     }
 
+    /**
+     * @param reader
+     * @throws IOException
+     */
+    public InfoResponse(JsonReader reader) throws IOException {
+        super(reader);
+    }
+
     public JsonElement getCameras() {
         return getData().get("cameras");
     }
@@ -12,43 +12,108 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi.response;
 
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
- * {@link LiveUriResponse} is a response for live URIs
+ * {@link LiveUriResponse} is a response for live URIs of one or more cameras
  *
  * @author Pavion - Initial contribution
  */
 @NonNullByDefault
 public class LiveUriResponse extends SimpleResponse {
 
+    private String rtsp = "";
+    private String mjpegHttp = "";
+    private final Map<String, String> rtspByCamera = new HashMap<>();
+    private final Map<String, String> mjpegHttpByCamera = new HashMap<>();
+
     /**
      * @param jsonResponse
      */
     public LiveUriResponse(String jsonResponse) {
-        super(jsonResponse);
+        super();
+        parse(jsonResponse);
+    }
+
+    /**
+     * @param reader
+     * @throws IOException
+     */
+    public LiveUriResponse(JsonReader reader) throws IOException {
+        super();
+        parse(reader);
     }
 
-    public JsonArray getUris() {
-        return getDataAsJsonArray();
+    @Override
+    protected void readData(JsonReader reader) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            reader.skipValue();
+            return;
+        }
+        boolean first = true;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                readUris(reader, first);
+                first = false;
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endArray();
     }
 
     /**
-     * Return rtsp URI
+     * Reads the URIs of a camera
      *
+     * @param first true for the first camera of the list, which is also returned without camera ID
      */
-    public String getRtsp() {
-        for (JsonElement jUri : getUris()) {
-            if (jUri.isJsonObject()) {
-                JsonObject uri = jUri.getAsJsonObject();
-                return uri.get("rtspPath").getAsString();
+    private void readUris(JsonReader reader, boolean first) throws IOException {
+        String cameraId = "";
+        String rtspPath = "";
+        String mjpegHttpPath = "";
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    cameraId = nextString(reader);
+                    break;
+                case "rtspPath":
+                    rtspPath = nextString(reader);
+                    break;
+                case "mjpegHttpPath":
+                    mjpegHttpPath = nextString(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
             }
         }
-        return "";
+        reader.endObject();
+
+        if (first) {
+            rtsp = rtspPath;
+            mjpegHttp = mjpegHttpPath;
+        }
+        if (!cameraId.isEmpty()) {
+            rtspByCamera.put(cameraId, rtspPath);
+            mjpegHttpByCamera.put(cameraId, mjpegHttpPath);
+        }
+    }
+
+    /**
+     * Return rtsp URI
+     *
+     */
+    public String getRtsp() {
+        return rtsp;
     }
 
     /**
@@ -56,12 +121,36 @@ public class LiveUriResponse extends SimpleResponse {
      *
      */
     public String getMjpegHttp() {
-        for (JsonElement jUri : getUris()) {
-            if (jUri.isJsonObject()) {
-                JsonObject uri = jUri.getAsJsonObject();
-                return uri.get("mjpegHttpPath").getAsString();
-            }
-        }
-        return "";
+        return mjpegHttp;
+    }
+
+    /**
+     * Return rtsp URI of the given camera
+     *
+     * A response without camera IDs is taken as the response for the requested camera.
+     *
+     * @param cameraId camera ID
+     * @return URI or an empty string if the camera is not part of this response
+     */
+    public String getRtsp(String cameraId) {
+        return rtspByCamera.isEmpty() ? rtsp : rtspByCamera.getOrDefault(cameraId, "");
+    }
+
+    /**
+     * Return mjpeg over http URI of the given camera
+     *
+     * @param cameraId camera ID
+     * @return URI or an empty string if the camera is not part of this response
+     */
+    public String getMjpegHttp(String cameraId) {
+        return mjpegHttpByCamera.isEmpty() ? mjpegHttp : mjpegHttpByCamera.getOrDefault(cameraId, "");
+    }
+
+    /**
+     * @param cameraId camera ID
+     * @return true if the response contains the URIs of the given camera
+     */
+    public boolean hasCamera(String cameraId) {
+        return rtspByCamera.containsKey(cameraId);
     }
 }
@@ -12,8 +12,12 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi.response;
 
+import java.io.IOException;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
+import com.google.gson.stream.JsonReader;
+
 /**
  * {@link SimpleResponse} is a simplest implementation of an API response
  *
@@ -22,6 +26,10 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 @NonNullByDefault
 public class SimpleResponse extends SynoApiResponse {
 
+    protected SimpleResponse() {
+        super();
+    }
+
     /**
      * @param jsonResponse
      */
@@ -29,4 +37,12 @@ public class SimpleResponse extends SynoApiResponse {
         super(jsonResponse);
     }
 
+    /**
+     * @param reader
+     * @throws IOException
+     */
+    public SimpleResponse(JsonReader reader) throws IOException {
+        super(reader);
+    }
+
 }
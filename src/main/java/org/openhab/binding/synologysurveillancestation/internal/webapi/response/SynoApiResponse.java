@@ -12,12 +12,18 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi.response;
 
+import java.io.IOException;
+import java.io.StringReader;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
-import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * {@link SynoApiResponse} is an abstract class for an API response
@@ -49,7 +55,10 @@ public abstract class SynoApiResponse {
     public static final String PROP_PTZ_SPEED = "ptz_speed";
     public static final String PROP_PTZ_ZOOM_SPEED = "ptz_zoom_speed";
 
-    private JsonObject jsonResponse = new JsonParser().parse("{\"data\":{},\"success\":false}").getAsJsonObject();
+    private boolean success = false;
+    private int errorCode = 0;
+    private JsonObject data = new JsonObject();
+    private JsonArray dataArray = new JsonArray();
 
     public SynoApiResponse() {
     }
@@ -58,23 +67,120 @@ public abstract class SynoApiResponse {
      * @param jsonResponse
      */
     public SynoApiResponse(String jsonResponse) {
+        parse(jsonResponse);
+    }
+
+    /**
+     * @param reader reader positioned at the response object
+     * @throws IOException
+     */
+    public SynoApiResponse(JsonReader reader) throws IOException {
+        parse(reader);
+    }
+
+    /**
+     * Parses a JSON string, a malformed response is treated as unsuccessful.
+     *
+     * @param jsonResponse
+     */
+    protected final void parse(String jsonResponse) {
         try {
-            JsonObject json = new JsonParser().parse(jsonResponse).getAsJsonObject();
-            this.jsonResponse = json;
-        } catch (JsonSyntaxException e) {
-            // keep default value
+            parse(new JsonReader(new StringReader(jsonResponse)));
+        } catch (IOException | JsonParseException | IllegalStateException | NumberFormatException e) {
+            success = false;
+        }
+    }
+
+    /**
+     * Streams the response object. Only success, error code and data are read, the data is passed to
+     * {@link #readData(JsonReader)}. Subclasses overriding readData have to call this from their own constructor
+     * to not have their fields reset by their initializers.
+     *
+     * @param reader reader positioned at the response object
+     * @throws IOException
+     */
+    protected final void parse(JsonReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "success":
+                    success = reader.nextBoolean();
+                    break;
+                case "error":
+                    readError(reader);
+                    break;
+                case "data":
+                    if (reader.peek() == JsonToken.NULL) {
+                        reader.nextNull();
+                    } else {
+                        readData(reader);
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+    }
+
+    /**
+     * Reads the error code
+     */
+    private void readError(JsonReader reader) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("code") && reader.peek() == JsonToken.NUMBER) {
+                errorCode = reader.nextInt();
+            } else {
+                reader.skipValue();
+            }
         }
+        reader.endObject();
+    }
+
+    /**
+     * Reads the data member. By default the whole data tree is kept, responses only needing some fields
+     * override this and skip the rest.
+     *
+     * @param reader reader positioned at the data value
+     * @throws IOException
+     */
+    protected void readData(JsonReader reader) throws IOException {
+        JsonElement element = new JsonParser().parse(reader);
+        if (element.isJsonObject()) {
+            data = element.getAsJsonObject();
+        } else if (element.isJsonArray()) {
+            dataArray = element.getAsJsonArray();
+        }
+    }
+
+    /**
+     * Reads the next value as string, numbers are converted
+     *
+     * @param reader
+     * @return the value or an empty string if null
+     * @throws IOException
+     */
+    protected static String nextString(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return "";
+        } else if (reader.peek() == JsonToken.BOOLEAN) {
+            return Boolean.toString(reader.nextBoolean());
+        }
+        return reader.nextString();
     }
 
     /**
      * @return
      */
     public JsonObject getData() {
-        JsonObject ret = jsonResponse.getAsJsonObject("data");
-        if (ret == null) {
-            return new JsonObject();
-        }
-        return ret;
+        return data;
     }
 
     /**
@@ -82,38 +188,26 @@ public abstract class SynoApiResponse {
      * @return
      */
     public JsonArray getDataAsJsonArray() {
-        JsonArray ret = jsonResponse.getAsJsonArray("data");
-        if (ret == null) {
-            return new JsonArray();
-        }
-        return ret;
+        return dataArray;
     }
 
     /**
      * @return
      */
     public boolean isSuccess() {
-        if (jsonResponse.has("success")) {
-            return jsonResponse.get("success").getAsBoolean();
-        }
-        return false;
+        return success;
     }
 
     /**
      * @return
      */
     public int getErrorcode() {
-        if (jsonResponse.has("error")) {
-            if (jsonResponse.getAsJsonObject("error").has("code")) {
-                return jsonResponse.getAsJsonObject("error").get("code").getAsInt();
-            }
-        }
-        return 0;
+        return errorCode;
     }
 
     @Override
     public String toString() {
-        return jsonResponse.toString();
+        return "{\"success\":" + success + ",\"error\":{\"code\":" + errorCode + "}}";
     }
 
     /**
@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webhook;
+
+import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.CHANNEL_EVENT;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.synologysurveillancestation.handler.SynoBridgeHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SynoWebhookServlet} receives events pushed by Surveillance Station action rules (action "Webhook").
+ *
+ * Request: GET or POST {@value #SERVLET_PATH}/&lt;bridge id&gt;?secret=...&amp;camera=&lt;camera id&gt;&amp;event=motion
+ * - secret: shared secret of the bridge, alternatively passed in the {@value #SECRET_HEADER} header
+ * - camera: camera id as used in the camera Thing UID
+ * - event: motion, alarm, manual, continuous, external or actionrule
+ * - state: on (default) or off
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SynoWebhookServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+
+    private final Logger logger = LoggerFactory.getLogger(SynoWebhookServlet.class);
+
+    public static final String SERVLET_PATH = "/synologysurveillancestation";
+    public static final String SECRET_HEADER = "X-Syno-Secret";
+
+    private static final String EVENT_CHANNEL_GROUP = "event#";
+
+    private final Map<String, SynoBridgeHandler> bridges = new ConcurrentHashMap<>();
+
+    /**
+     * Accepts pushes for the bridge
+     *
+     * @param bridgeHandler
+     */
+    public void addBridge(SynoBridgeHandler bridgeHandler) {
+        bridges.put(bridgeHandler.getThing().getUID().getId(), bridgeHandler);
+    }
+
+    /**
+     * Stops accepting pushes for the bridge
+     *
+     * @param bridgeHandler
+     */
+    public void removeBridge(SynoBridgeHandler bridgeHandler) {
+        bridges.remove(bridgeHandler.getThing().getUID().getId(), bridgeHandler);
+    }
+
+    @Override
+    protected void doGet(@Nullable HttpServletRequest req, @Nullable HttpServletResponse resp)
+            throws ServletException, IOException {
+        handle(req, resp);
+    }
+
+    @Override
+    protected void doPost(@Nullable HttpServletRequest req, @Nullable HttpServletResponse resp)
+            throws ServletException, IOException {
+        handle(req, resp);
+    }
+
+    private void handle(@Nullable HttpServletRequest req, @Nullable HttpServletResponse resp) throws IOException {
+        if (req == null || resp == null) {
+            return;
+        }
+
+        String path = req.getPathInfo();
+        SynoBridgeHandler bridgeHandler = path == null ? null : bridges.get(path.replaceAll("^/+|/+$", ""));
+        if (bridgeHandler == null) {
+            resp.sendError(HttpServletResponse.SC_NOT_FOUND, "Unknown bridge");
+            return;
+        }
+
+        String secret = req.getParameter("secret");
+        if (secret == null) {
+            secret = req.getHeader(SECRET_HEADER);
+        }
+        if (secret == null || !bridgeHandler.isWebhookSecret(secret)) {
+            logger.debug("Webhook push from {} rejected, invalid secret", req.getRemoteAddr());
+            resp.sendError(HttpServletResponse.SC_FORBIDDEN, "Invalid secret");
+            return;
+        }
+
+        String cameraId = req.getParameter("camera");
+        String event = req.getParameter("event");
+        String eventType = event == null ? null : EVENT_CHANNEL_GROUP + event.toLowerCase();
+        if (cameraId == null || eventType == null || !CHANNEL_EVENT.contains(eventType)) {
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST, "Missing or invalid camera or event");
+            return;
+        }
+        boolean on = !"off".equalsIgnoreCase(req.getParameter("state"));
+
+        if (!bridgeHandler.pushEvent(cameraId, eventType, on)) {
+            resp.sendError(HttpServletResponse.SC_NOT_FOUND, "Unknown camera");
+            return;
+        }
+        logger.debug("Webhook push: camera {}, event {}, state {}", cameraId, event, on ? "on" : "off");
+        resp.setStatus(HttpServletResponse.SC_OK);
+        resp.setContentType("text/plain");
+        resp.getWriter().write("OK");
+    }
+}
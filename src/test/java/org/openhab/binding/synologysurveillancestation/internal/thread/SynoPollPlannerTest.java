@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.thread;
+
+import static org.junit.Assert.*;
+import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link SynoPollPlanner}
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+public class SynoPollPlannerTest {
+
+    @Test
+    public void motionAndSnapshotNeedOnlyTheirJobs() {
+        SynoPollPlanner planner = new SynoPollPlanner();
+        planner.setLinked(Arrays.asList(CHANNEL_EVENT_MOTION, CHANNEL_SNAPSHOT));
+        assertEquals(new HashSet<>(Arrays.asList(SynoApiThread.THREAD_EVENT, SynoApiThread.THREAD_SNAPSHOT)),
+                planner.getJobs());
+        assertFalse(planner.isNeeded(SynoPollPlanner.JOB_STATUS));
+    }
+
+    @Test
+    public void statusIsNeededForEnableOrRecord() {
+        SynoPollPlanner planner = new SynoPollPlanner();
+        assertTrue(planner.setLinked(CHANNEL_RECORD, true));
+        assertTrue(planner.isNeeded(SynoPollPlanner.JOB_STATUS));
+        assertFalse(planner.setLinked(CHANNEL_ENABLE, true));
+        assertFalse(planner.setLinked(CHANNEL_RECORD, false));
+        assertTrue(planner.setLinked(CHANNEL_ENABLE, false));
+        assertFalse(planner.isNeeded(SynoPollPlanner.JOB_STATUS));
+    }
+
+    @Test
+    public void presetsAndPatrolsNeedPtz() {
+        SynoPollPlanner planner = new SynoPollPlanner();
+        planner.setLinked(Arrays.asList(CHANNEL_MOVEPRESET, CHANNEL_RUNPATROL));
+        assertFalse(planner.isNeeded(SynoApiThread.THREAD_CAMERA));
+        assertTrue(planner.setPtz(true));
+        assertTrue(planner.isNeeded(SynoApiThread.THREAD_CAMERA));
+        assertTrue(planner.setPtz(false));
+        assertFalse(planner.isNeeded(SynoApiThread.THREAD_CAMERA));
+    }
+
+    @Test
+    public void eventStreamNeedsEventsWithoutLinks() {
+        SynoPollPlanner planner = new SynoPollPlanner();
+        planner.setLinked(Collections.emptyList());
+        assertTrue(planner.setEventStream(true));
+        assertEquals(Collections.singleton(SynoApiThread.THREAD_EVENT), planner.getJobs());
+    }
+
+}
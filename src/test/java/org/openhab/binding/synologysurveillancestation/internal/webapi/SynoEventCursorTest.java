@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link SynoEventCursor}
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+public class SynoEventCursorTest {
+    private static final long START = 1_000_000;
+
+    private static SynoEvent event(long eventId, boolean completed, long startTime) {
+        long stopTime = completed ? startTime + 5 : 0;
+        return new SynoEvent(eventId, completed, SynoEvent.EVENT_REASON_MOTION, startTime, stopTime);
+    }
+
+    @Test
+    public void idleCameraFollowsServerTime() {
+        SynoEventCursor cursor = new SynoEventCursor(START);
+        cursor.advance(Collections.emptyList(), START + 3600);
+        assertEquals(START + 3600 - SynoEventCursor.OVERLAP, cursor.getFromTime());
+    }
+
+    @Test
+    public void unknownServerTimeKeepsCursor() {
+        SynoEventCursor cursor = new SynoEventCursor(START);
+        cursor.advance(Collections.emptyList(), 0);
+        assertEquals(START, cursor.getFromTime());
+    }
+
+    @Test
+    public void cursorNeverMovesBeforeNewestEvent() {
+        SynoEventCursor cursor = new SynoEventCursor(START);
+        cursor.advance(Arrays.asList(event(7, true, START + 100)), START + 102);
+        assertEquals(START + 100, cursor.getFromTime());
+        assertTrue(cursor.isProcessed(event(7, true, START + 100)));
+    }
+
+    @Test
+    public void incompleteEventHoldsCursor() {
+        SynoEventCursor cursor = new SynoEventCursor(START);
+        cursor.advance(Arrays.asList(event(8, true, START + 200), event(7, false, START + 100)), START + 210);
+        assertEquals(START + 100, cursor.getFromTime());
+        assertTrue(cursor.isProcessed(event(8, true, START + 200)));
+        assertFalse(cursor.isProcessed(event(7, false, START + 100)));
+    }
+
+    @Test
+    public void incompleteEventHoldsCursorAtMostMaxLag() {
+        SynoEventCursor cursor = new SynoEventCursor(START);
+        long serverTime = START + 100 + SynoEventCursor.MAX_LAG * 2;
+        cursor.advance(Arrays.asList(event(7, false, START + 100)), serverTime);
+        assertEquals(serverTime - SynoEventCursor.MAX_LAG, cursor.getFromTime());
+    }
+
+    @Test
+    public void completedEventIsProcessedOnce() {
+        SynoEventCursor cursor = new SynoEventCursor(START);
+        SynoEvent running = event(7, false, START + 100);
+        assertFalse(cursor.isProcessed(running));
+        cursor.advance(Arrays.asList(running), START + 110);
+        assertFalse(cursor.isProcessed(event(7, true, START + 100)));
+        cursor.advance(Arrays.asList(event(7, true, START + 100)), START + 120);
+        assertTrue(cursor.isProcessed(event(7, true, START + 100)));
+        assertEquals(START + 110, cursor.getFromTime());
+    }
+
+    @Test
+    public void fullQueryStaysProcessed() {
+        SynoEventCursor cursor = new SynoEventCursor(START);
+        List<SynoEvent> events = new ArrayList<>();
+        for (int i = SynoEventCursor.CAPACITY; i > 0; i--) {
+            events.add(event(i, true, START + i));
+        }
+        cursor.advance(events, START + SynoEventCursor.CAPACITY);
+        cursor.advance(events, START + SynoEventCursor.CAPACITY);
+        for (SynoEvent event : events) {
+            assertTrue(cursor.isProcessed(event));
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link SynoEventIdSet}
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+public class SynoEventIdSetTest {
+
+    @Test
+    public void addRejectsDuplicates() {
+        SynoEventIdSet set = new SynoEventIdSet(4);
+        assertTrue(set.add(1));
+        assertFalse(set.add(1));
+        assertTrue(set.contains(1));
+        assertFalse(set.contains(2));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    public void oldestIdIsEvictedWhenFull() {
+        SynoEventIdSet set = new SynoEventIdSet(3);
+        set.add(1);
+        set.add(2);
+        set.add(3);
+        set.add(4);
+        assertFalse(set.contains(1));
+        assertTrue(set.contains(2));
+        assertTrue(set.contains(3));
+        assertTrue(set.contains(4));
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    public void evictionKeepsCollidingIdsReachable() {
+        SynoEventIdSet set = new SynoEventIdSet(16);
+        for (long id = 0; id < 1000; id++) {
+            set.add(id);
+            for (long kept = Math.max(0, id - 15); kept <= id; kept++) {
+                assertTrue(set.contains(kept));
+            }
+            if (id >= 16) {
+                assertFalse(set.contains(id - 16));
+            }
+        }
+        assertEquals(16, set.size());
+    }
+
+    @Test
+    public void clearRemovesAllIds() {
+        SynoEventIdSet set = new SynoEventIdSet(4);
+        set.add(1);
+        set.add(2);
+        set.clear();
+        assertEquals(0, set.size());
+        assertFalse(set.contains(1));
+        assertTrue(set.add(1));
+    }
+
+    @Test
+    public void emptyMarkerIsNeverContained() {
+        SynoEventIdSet set = new SynoEventIdSet(4);
+        assertFalse(set.add(Long.MIN_VALUE));
+        assertFalse(set.contains(Long.MIN_VALUE));
+    }
+
+}